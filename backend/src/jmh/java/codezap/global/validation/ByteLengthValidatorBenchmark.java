@@ -0,0 +1,53 @@
+package codezap.global.validation;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ByteLengthValidatorBenchmark {
+
+    private static final int DESCRIPTION_BYTES = 64 * 1024;
+
+    @Param({"ascii", "hangul"})
+    private String charset;
+
+    private final ByteLengthValidator validator = new ByteLengthValidator();
+    private String description;
+
+    @Setup
+    public void setUp() throws NoSuchFieldException {
+        validator.initialize(Target.class.getDeclaredField("description").getAnnotation(ByteLength.class));
+        if (charset.equals("ascii")) {
+            description = "a".repeat(DESCRIPTION_BYTES - 1);
+            return;
+        }
+        description = "가".repeat((DESCRIPTION_BYTES - 1) / 3);
+    }
+
+    @Benchmark
+    public boolean isValid() {
+        return validator.isValid(description, null);
+    }
+
+    private static class Target {
+
+        @ByteLength(max = 65_535)
+        private String description;
+    }
+}
@@ -0,0 +1,33 @@
+package codezap.member.service;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.HttpHeaders;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DecodeCredentialsBenchmark {
+
+    private final AuthService authService = new AuthService(null, null);
+    private final String encodedCredentials =
+            HttpHeaders.encodeBasicAuth("code@zap.com", "password1234", StandardCharsets.UTF_8);
+
+    @Benchmark
+    public String[] decodeCredentials() {
+        return authService.decodeCredentials(encodedCredentials);
+    }
+}
@@ -0,0 +1,43 @@
+package codezap.template.domain;
+
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ThumbnailContentBenchmark {
+
+    @Param({"5", "100", "5000"})
+    private int lineCount;
+
+    private String content;
+
+    @Setup
+    public void setUp() {
+        content = IntStream.rangeClosed(1, lineCount)
+                .mapToObj(line -> "    System.out.println(\"line " + line + "\");")
+                .collect(Collectors.joining("\n"));
+    }
+
+    @Benchmark
+    public String extractThumbnailContent() {
+        return ThumbnailSnippet.extractThumbnailContent(content);
+    }
+}
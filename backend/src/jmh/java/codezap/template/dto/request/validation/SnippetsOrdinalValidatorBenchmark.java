@@ -0,0 +1,48 @@
+package codezap.template.dto.request.validation;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import codezap.template.dto.request.CreateSnippetRequest;
+import codezap.template.dto.request.CreateTemplateRequest;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SnippetsOrdinalValidatorBenchmark {
+
+    @Param({"1", "10", "100"})
+    private int snippetCount;
+
+    private final SnippetsOrdinalValidator validator = new SnippetsOrdinalValidator();
+    private CreateTemplateRequest request;
+
+    @Setup
+    public void setUp() {
+        List<CreateSnippetRequest> snippets = IntStream.rangeClosed(1, snippetCount)
+                .mapToObj(ordinal -> new CreateSnippetRequest("filename" + ordinal, "content", ordinal))
+                .toList();
+        request = new CreateTemplateRequest("title", "description", snippets, 1L, List.of());
+    }
+
+    @Benchmark
+    public boolean isValid() {
+        return validator.isValid(request, null);
+    }
+}
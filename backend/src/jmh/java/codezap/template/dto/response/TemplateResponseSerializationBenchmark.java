@@ -0,0 +1,78 @@
+package codezap.template.dto.response;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import codezap.category.dto.response.FindCategoryResponse;
+import codezap.template.dto.response.FindAllTemplatesResponse.ItemResponse;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.fasterxml.jackson.datatype.jsr310.ser.LocalDateTimeSerializer;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TemplateResponseSerializationBenchmark {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2024, 11, 11, 12, 0);
+
+    @Param({"1", "20"})
+    private int itemCount;
+
+    private ObjectMapper objectMapper;
+    private FindTemplateResponse findTemplateResponse;
+    private FindAllTemplatesResponse findAllTemplatesResponse;
+
+    @Setup
+    public void setUp() {
+        objectMapper = JsonMapper.builder()
+                .addModule(new JavaTimeModule())
+                .addModule(new SimpleModule().addSerializer(
+                        new LocalDateTimeSerializer(DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm"))))
+                .build();
+
+        List<FindTagResponse> tags = List.of(new FindTagResponse(1L, "spring"), new FindTagResponse(2L, "java"));
+        List<FindAllSnippetByTemplateResponse> snippets = IntStream.rangeClosed(1, itemCount)
+                .mapToObj(ordinal -> new FindAllSnippetByTemplateResponse(
+                        (long) ordinal, "Main" + ordinal + ".java", "public class Main {\n}\n".repeat(50), ordinal))
+                .toList();
+        findTemplateResponse = new FindTemplateResponse(1L, "title", "description", snippets,
+                new FindCategoryResponse(1L, "category"), tags, NOW, NOW);
+
+        List<ItemResponse> items = IntStream.rangeClosed(1, itemCount)
+                .mapToObj(id -> new ItemResponse((long) id, "title" + id, "description", tags, NOW, NOW))
+                .toList();
+        findAllTemplatesResponse = new FindAllTemplatesResponse(1, itemCount, items, null);
+    }
+
+    @Benchmark
+    public byte[] serializeFindTemplateResponse() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(findTemplateResponse);
+    }
+
+    @Benchmark
+    public byte[] serializeFindAllTemplatesResponse() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(findAllTemplatesResponse);
+    }
+}
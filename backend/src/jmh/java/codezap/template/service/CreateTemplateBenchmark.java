@@ -0,0 +1,110 @@
+package codezap.template.service;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import codezap.CodeZapApplication;
+import codezap.category.repository.CategoryRepository;
+import codezap.member.domain.Member;
+import codezap.member.dto.MemberDto;
+import codezap.member.dto.SignupRequest;
+import codezap.member.service.MemberService;
+import codezap.template.dto.request.CreateSnippetRequest;
+import codezap.template.dto.request.CreateTemplateRequest;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CreateTemplateBenchmark {
+
+    @Param({"1", "50"})
+    private int allocationSize;
+
+    @Param({"1", "50"})
+    private int batchSize;
+
+    @Param({"10"})
+    private int snippetCount;
+
+    private ConfigurableApplicationContext context;
+    private TemplateService templateService;
+    private MemberDto memberDto;
+    private CreateTemplateRequest createTemplateRequest;
+
+    @Setup
+    public void setUp() {
+        context = new SpringApplicationBuilder(CodeZapApplication.class)
+                .web(WebApplicationType.NONE)
+                .run(
+                        "--spring.profiles.active=benchmark",
+                        "--spring.datasource.username=sa",
+                        "--spring.datasource.url=jdbc:h2:mem:benchmark;DB_CLOSE_DELAY=-1",
+                        "--spring.jpa.hibernate.ddl-auto=create",
+                        "--spring.jpa.properties.hibernate.jdbc.batch_size=" + batchSize,
+                        "--spring.jpa.properties.codezap.id.allocation-size=" + allocationSize,
+                        "--spring.jpa.properties.hibernate.session_factory.statement_inspector="
+                                + StatementCounter.class.getName()
+                );
+        templateService = context.getBean(TemplateService.class);
+
+        Member member = context.getBean(MemberService.class)
+                .signup(new SignupRequest("code@zap.com", "password1234", "zappy"));
+        memberDto = MemberDto.from(member);
+        Long categoryId = context.getBean(CategoryRepository.class)
+                .findAllByMemberOrderById(member)
+                .get(0)
+                .getId();
+        List<CreateSnippetRequest> snippets = IntStream.rangeClosed(1, snippetCount)
+                .mapToObj(ordinal -> new CreateSnippetRequest("Main" + ordinal + ".java", "class Main {}", ordinal))
+                .toList();
+        createTemplateRequest = new CreateTemplateRequest(
+                "title", "description", snippets, categoryId, List.of("spring", "java", "jpa"));
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public Long createTemplate(Statements statements) {
+        long before = StatementCounter.count();
+        Long id = templateService.createTemplate(createTemplateRequest, memberDto);
+        statements.statements += StatementCounter.count() - before;
+        return id;
+    }
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Statements {
+
+        public long statements;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            statements = 0;
+        }
+    }
+}
@@ -32,7 +32,7 @@ public interface SpringDocCategoryController {
     })
     ResponseEntity<Void> createCategory(CreateCategoryRequest createCategoryRequest, MemberDto memberDto);
 
-    @Operation(summary = "카테고리 목록 조회", description = "생성된 모든 카테고리를 조회합니다.")
+    @Operation(summary = "카테고리 목록 조회", description = "생성된 모든 카테고리를 카테고리별 템플릿 개수와 함께 조회합니다.")
     @ApiResponse(responseCode = "200", description = "조회 성공",
             content = {@Content(schema = @Schema(implementation = FindAllCategoriesResponse.class))})
     ResponseEntity<FindAllCategoriesResponse> getCategories(MemberDto memberDto, Long memberId);
@@ -1,19 +1,34 @@
 package codezap.category.dto.response;
 
 import java.util.List;
+import java.util.Map;
 
 import codezap.category.domain.Category;
 import io.swagger.v3.oas.annotations.media.Schema;
 
 public record FindAllCategoriesResponse(
         @Schema(description = "카테고리 목록")
-        List<FindCategoryResponse> categories
+        List<ItemResponse> categories
 ) {
-    public static FindAllCategoriesResponse from(List<Category> categories) {
+    public static FindAllCategoriesResponse of(List<Category> categories, Map<Long, Long> templateCounts) {
         return new FindAllCategoriesResponse(
                 categories.stream()
-                        .map(FindCategoryResponse::from)
+                        .map(category -> ItemResponse.of(
+                                category, templateCounts.getOrDefault(category.getId(), 0L)))
                         .toList()
         );
     }
+
+    public record ItemResponse(
+            @Schema(description = "카테고리 식별자", example = "1")
+            Long id,
+            @Schema(description = "카테고리 이름", example = "Spring")
+            String name,
+            @Schema(description = "카테고리에 속한 템플릿 개수", example = "3")
+            Long templateCount
+    ) {
+        public static ItemResponse of(Category category, Long templateCount) {
+            return new ItemResponse(category.getId(), category.getName(), templateCount);
+        }
+    }
 }
@@ -10,25 +10,34 @@ import codezap.category.dto.request.UpdateCategoryRequest;
 import codezap.category.dto.response.FindAllCategoriesResponse;
 import codezap.category.repository.CategoryRepository;
 import codezap.global.exception.CodeZapException;
+import codezap.global.invalidation.EntityType;
+import codezap.global.invalidation.InvalidationBus;
 import codezap.member.domain.Member;
 import codezap.member.dto.MemberDto;
 import codezap.member.repository.MemberJpaRepository;
 import codezap.member.repository.MemberRepository;
 import codezap.template.repository.TemplateRepository;
+import codezap.template.service.TemplateCounter;
+import io.micrometer.core.annotation.Timed;
 
 @Service
+@Timed(histogram = true)
 public class CategoryService {
 
     private final CategoryRepository categoryRepository;
     private final TemplateRepository templateRepository;
+    private final TemplateCounter templateCounter;
     private final MemberRepository memberJpaRepository;
+    private final InvalidationBus invalidationBus;
 
     public CategoryService(CategoryRepository categoryRepository, TemplateRepository templateRepository,
-            MemberJpaRepository memberJpaRepository
+            TemplateCounter templateCounter, MemberJpaRepository memberJpaRepository, InvalidationBus invalidationBus
     ) {
         this.categoryRepository = categoryRepository;
         this.templateRepository = templateRepository;
+        this.templateCounter = templateCounter;
         this.memberJpaRepository = memberJpaRepository;
+        this.invalidationBus = invalidationBus;
     }
 
     @Transactional
@@ -40,13 +49,13 @@ public class CategoryService {
         return categoryRepository.save(category).getId();
     }
 
+    @Transactional(readOnly = true)
     public FindAllCategoriesResponse findAllByMember(Long memberId) {
         Member member = memberJpaRepository.fetchById(memberId);
-        return FindAllCategoriesResponse.from(categoryRepository.findAllByMemberOrderById(member));
-    }
-
-    public FindAllCategoriesResponse findAll() {
-        return FindAllCategoriesResponse.from(categoryRepository.findAll());
+        return FindAllCategoriesResponse.of(
+                categoryRepository.findAllByMemberOrderById(member),
+                templateCounter.findCategoryCounts(memberId)
+        );
     }
 
     @Transactional
@@ -56,6 +65,7 @@ public class CategoryService {
         Category category = categoryRepository.fetchById(id);
         validateAuthorizeMember(category, member);
         category.updateName(updateCategoryRequest.name());
+        invalidationBus.publish(EntityType.CATEGORY, id);
     }
 
     private void validateDuplicatedCategory(String categoryName, Member member) {
@@ -64,6 +74,7 @@ public class CategoryService {
         }
     }
 
+    @Transactional
     public void deleteById(Long id, MemberDto memberDto) {
         Member member = memberJpaRepository.fetchById(memberDto.id());
         Category category = categoryRepository.fetchById(id);
@@ -76,6 +87,8 @@ public class CategoryService {
             throw new CodeZapException(HttpStatus.BAD_REQUEST, "기본 카테고리는 삭제할 수 없습니다.");
         }
         categoryRepository.deleteById(id);
+        templateCounter.removeCategory(member.getId(), id);
+        invalidationBus.publish(EntityType.CATEGORY, id);
     }
 
     private void validateAuthorizeMember(Category category, Member member) {
@@ -0,0 +1,6 @@
+package codezap.global.datasource;
+
+public enum DataSourceType {
+    PRIMARY,
+    REPLICA
+}
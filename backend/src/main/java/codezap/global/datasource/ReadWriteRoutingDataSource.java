@@ -0,0 +1,73 @@
+package codezap.global.datasource;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.Locale;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+public class ReadWriteRoutingDataSource extends AbstractRoutingDataSource {
+
+    private static final List<String> WRITE_STATEMENT_PREFIXES = List.of("insert", "update", "delete", "merge");
+
+    private final ReplicationLagGuard replicationLagGuard;
+
+    public ReadWriteRoutingDataSource(ReplicationLagGuard replicationLagGuard) {
+        this.replicationLagGuard = replicationLagGuard;
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isActualTransactionActive()) {
+            return DataSourceType.PRIMARY;
+        }
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            return DataSourceType.PRIMARY;
+        }
+        if (replicationLagGuard.requiresPrimary()) {
+            return DataSourceType.PRIMARY;
+        }
+        return DataSourceType.REPLICA;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return trackWrites(super.getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return trackWrites(super.getConnection(username, password));
+    }
+
+    private Connection trackWrites(Connection connection) {
+        if (!TransactionSynchronizationManager.isActualTransactionActive()
+                || TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            return connection;
+        }
+        return (Connection) Proxy.newProxyInstance(
+                Connection.class.getClassLoader(),
+                new Class<?>[]{Connection.class},
+                (proxy, method, args) -> {
+                    if (method.getName().startsWith("prepare") && args != null
+                            && args[0] instanceof String sql && isWriteStatement(sql)) {
+                        replicationLagGuard.recordWriteAfterCommit();
+                    }
+                    try {
+                        return method.invoke(connection, args);
+                    } catch (InvocationTargetException e) {
+                        throw e.getTargetException();
+                    }
+                }
+        );
+    }
+
+    private boolean isWriteStatement(String sql) {
+        String statement = sql.stripLeading().toLowerCase(Locale.ROOT);
+        return WRITE_STATEMENT_PREFIXES.stream().anyMatch(statement::startsWith);
+    }
+}
@@ -0,0 +1,133 @@
+package codezap.global.datasource;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Optional;
+
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseCookie;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+@Component
+public class ReplicationLagGuard {
+
+    public static final String LAST_WRITE_COOKIE = "LastWrite";
+
+    private static final String PRIMARY_ATTRIBUTE = ReplicationLagGuard.class.getName() + ".primary";
+    private static final String WRITE_ATTRIBUTE = ReplicationLagGuard.class.getName() + ".write";
+
+    private final Duration stickiness;
+    private final Clock clock;
+
+    @Autowired
+    public ReplicationLagGuard(@Value("${codezap.datasource.routing.stickiness:5s}") Duration stickiness) {
+        this(stickiness, Clock.systemUTC());
+    }
+
+    ReplicationLagGuard(Duration stickiness, Clock clock) {
+        this.stickiness = stickiness;
+        this.clock = clock;
+    }
+
+    public void pinPrimary() {
+        currentRequestAttributes().ifPresent(attributes ->
+                attributes.setAttribute(PRIMARY_ATTRIBUTE, Boolean.TRUE, RequestAttributes.SCOPE_REQUEST));
+    }
+
+    public void recordWriteAfterCommit() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive() || hasLastWriteSynchronization()) {
+            return;
+        }
+        currentRequestAttributes().ifPresent(attributes ->
+                TransactionSynchronizationManager.registerSynchronization(new LastWriteSynchronization(attributes)));
+    }
+
+    private boolean hasLastWriteSynchronization() {
+        return TransactionSynchronizationManager.getSynchronizations().stream()
+                .anyMatch(LastWriteSynchronization.class::isInstance);
+    }
+
+    private void recordWrite(ServletRequestAttributes attributes) {
+        if (attributes.getAttribute(WRITE_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST) != null) {
+            return;
+        }
+        attributes.setAttribute(WRITE_ATTRIBUTE, Boolean.TRUE, RequestAttributes.SCOPE_REQUEST);
+        addLastWriteCookie(attributes.getResponse());
+    }
+
+    public boolean requiresPrimary() {
+        return currentRequestAttributes()
+                .map(attributes -> attributes.getAttribute(PRIMARY_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST) != null
+                        || attributes.getAttribute(WRITE_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST) != null
+                        || wroteRecently(attributes.getRequest()))
+                .orElse(false);
+    }
+
+    private void addLastWriteCookie(HttpServletResponse response) {
+        if (response == null || response.isCommitted()) {
+            return;
+        }
+        ResponseCookie cookie = ResponseCookie.from(LAST_WRITE_COOKIE, String.valueOf(clock.millis()))
+                .maxAge(stickiness)
+                .path("/")
+                .sameSite("None")
+                .secure(true)
+                .httpOnly(true)
+                .build();
+        response.addHeader(HttpHeaders.SET_COOKIE, cookie.toString());
+    }
+
+    private boolean wroteRecently(HttpServletRequest request) {
+        Cookie[] cookies = request.getCookies();
+        if (cookies == null) {
+            return false;
+        }
+        return Arrays.stream(cookies)
+                .filter(cookie -> LAST_WRITE_COOKIE.equals(cookie.getName()))
+                .findFirst()
+                .flatMap(cookie -> parseMillis(cookie.getValue()))
+                .map(writtenAt -> clock.millis() - writtenAt < stickiness.toMillis())
+                .orElse(false);
+    }
+
+    private Optional<Long> parseMillis(String value) {
+        try {
+            return Optional.of(Long.parseLong(value));
+        } catch (NumberFormatException e) {
+            return Optional.empty();
+        }
+    }
+
+    private Optional<ServletRequestAttributes> currentRequestAttributes() {
+        if (RequestContextHolder.getRequestAttributes() instanceof ServletRequestAttributes attributes) {
+            return Optional.of(attributes);
+        }
+        return Optional.empty();
+    }
+
+    private class LastWriteSynchronization implements TransactionSynchronization {
+
+        private final ServletRequestAttributes attributes;
+
+        LastWriteSynchronization(ServletRequestAttributes attributes) {
+            this.attributes = attributes;
+        }
+
+        @Override
+        public void afterCommit() {
+            recordWrite(attributes);
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package codezap.global.encoding;
+
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+public final class AcceptEncodings {
+
+    public static final String GZIP = "gzip";
+
+    private static final String WILDCARD = "*";
+    private static final double DEFAULT_QUALITY = 1;
+
+    private AcceptEncodings() {
+    }
+
+    public static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        Map<String, Double> qualities = Arrays.stream(acceptEncoding.split(","))
+                .map(coding -> coding.split(";"))
+                .filter(coding -> !coding[0].isBlank())
+                .collect(Collectors.toMap(
+                        coding -> coding[0].trim().toLowerCase(Locale.ROOT),
+                        AcceptEncodings::quality,
+                        Math::max
+                ));
+        Double quality = qualities.getOrDefault(GZIP, qualities.get(WILDCARD));
+        return quality != null && quality > 0;
+    }
+
+    private static double quality(String[] coding) {
+        return Arrays.stream(coding)
+                .skip(1)
+                .map(parameter -> parameter.trim().split("="))
+                .filter(nameAndValue -> nameAndValue.length == 2 && "q".equalsIgnoreCase(nameAndValue[0].trim()))
+                .findFirst()
+                .map(nameAndValue -> parseQuality(nameAndValue[1].trim()))
+                .orElse(DEFAULT_QUALITY);
+    }
+
+    private static double parseQuality(String value) {
+        try {
+            return Double.parseDouble(value);
+        } catch (NumberFormatException e) {
+            return 0;
+        }
+    }
+}
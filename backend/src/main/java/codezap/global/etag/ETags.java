@@ -0,0 +1,20 @@
+package codezap.global.etag;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.stream.Collectors;
+
+import org.springframework.util.DigestUtils;
+
+public final class ETags {
+
+    private ETags() {
+    }
+
+    public static String of(Object... versions) {
+        String joined = Arrays.stream(versions)
+                .map(String::valueOf)
+                .collect(Collectors.joining("|"));
+        return "\"" + DigestUtils.md5DigestAsHex(joined.getBytes(StandardCharsets.UTF_8)) + "\"";
+    }
+}
@@ -0,0 +1,90 @@
+package codezap.global.id;
+
+import java.lang.reflect.AnnotatedElement;
+import java.util.Optional;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.metamodel.EntityType;
+import jakarta.persistence.metamodel.SingularAttribute;
+
+import org.hibernate.dialect.Dialect;
+import org.hibernate.dialect.sequence.SequenceSupport;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@Component
+public class PooledSequenceSeeder implements SmartInitializingSingleton {
+
+    private final EntityManagerFactory entityManagerFactory;
+    private final JdbcTemplate jdbcTemplate;
+
+    public PooledSequenceSeeder(EntityManagerFactory entityManagerFactory, JdbcTemplate jdbcTemplate) {
+        this.entityManagerFactory = entityManagerFactory;
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        SessionFactoryImplementor sessionFactory = entityManagerFactory.unwrap(SessionFactoryImplementor.class);
+        Dialect dialect = sessionFactory.getJdbcServices().getDialect();
+        int allocationSize = PooledSequenceGenerator.allocationSize(sessionFactory.getServiceRegistry());
+        EntityManager entityManager = entityManagerFactory.createEntityManager();
+        try {
+            for (EntityType<?> entityType : entityManagerFactory.getMetamodel().getEntities()) {
+                findIdAttribute(entityType).ifPresent(idAttribute -> seed(
+                        entityManager, dialect, entityType, idAttribute, allocationSize));
+            }
+        } finally {
+            entityManager.close();
+        }
+    }
+
+    private Optional<SingularAttribute<?, ?>> findIdAttribute(EntityType<?> entityType) {
+        if (!entityType.hasSingleIdAttribute()) {
+            return Optional.empty();
+        }
+        SingularAttribute<?, ?> idAttribute = entityType.getId(entityType.getIdType().getJavaType());
+        if (idAttribute.getJavaMember() instanceof AnnotatedElement member
+                && member.isAnnotationPresent(PooledSequence.class)) {
+            return Optional.of(idAttribute);
+        }
+        return Optional.empty();
+    }
+
+    private void seed(
+            EntityManager entityManager,
+            Dialect dialect,
+            EntityType<?> entityType,
+            SingularAttribute<?, ?> idAttribute,
+            int allocationSize
+    ) {
+        Long maxId = entityManager.createQuery(
+                "SELECT MAX(e." + idAttribute.getName() + ") FROM " + entityType.getName() + " e", Long.class
+        ).getSingleResult();
+        if (maxId == null) {
+            return;
+        }
+        String sequenceName = ((AnnotatedElement) idAttribute.getJavaMember())
+                .getAnnotation(PooledSequence.class)
+                .name();
+        long nextValue = maxId + allocationSize;
+        SequenceSupport sequenceSupport = dialect.getSequenceSupport();
+        if (!sequenceSupport.supportsSequences()) {
+            jdbcTemplate.update(
+                    "UPDATE " + sequenceName + " SET next_val = ? WHERE next_val < ?", nextValue, nextValue);
+            return;
+        }
+        Long currentValue = jdbcTemplate.queryForObject(
+                sequenceSupport.getSequenceNextValString(sequenceName), Long.class);
+        if (currentValue != null && currentValue < nextValue) {
+            jdbcTemplate.execute("ALTER SEQUENCE " + sequenceName + " RESTART WITH " + nextValue);
+            log.info("{} 시퀀스를 {}부터 시작하도록 조정했습니다.", sequenceName, nextValue);
+        }
+    }
+}
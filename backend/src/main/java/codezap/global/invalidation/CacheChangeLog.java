@@ -0,0 +1,52 @@
+package codezap.global.invalidation;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Entity
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Getter
+@Table(indexes = @Index(name = "cache_change_log_created_at", columnList = "created_at"))
+public class CacheChangeLog {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false, length = 36)
+    private String nodeId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private EntityType entityType;
+
+    @Column(nullable = false)
+    private Long entityId;
+
+    @Column(nullable = false)
+    private LocalDateTime createdAt;
+
+    public CacheChangeLog(String nodeId, EntityType entityType, Long entityId, LocalDateTime createdAt) {
+        this.nodeId = nodeId;
+        this.entityType = entityType;
+        this.entityId = entityId;
+        this.createdAt = createdAt;
+    }
+
+    public InvalidationEvent toEvent() {
+        return new InvalidationEvent(entityType, entityId, id);
+    }
+}
@@ -0,0 +1,30 @@
+package codezap.global.invalidation;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+public interface CacheChangeLogRepository extends JpaRepository<CacheChangeLog, Long> {
+
+    @Query("SELECT COALESCE(MAX(c.id), 0) FROM CacheChangeLog c")
+    long findMaxId();
+
+    @Query("""
+            SELECT c
+            FROM CacheChangeLog c
+            WHERE c.id > :id
+            ORDER BY c.id
+            """)
+    List<CacheChangeLog> findAllByIdGreaterThan(@Param("id") long id, Pageable pageable);
+
+    @Modifying
+    @Transactional
+    @Query("DELETE FROM CacheChangeLog c WHERE c.createdAt < :createdAt")
+    int deleteAllByCreatedAtBefore(@Param("createdAt") LocalDateTime createdAt);
+}
@@ -0,0 +1,170 @@
+package codezap.global.invalidation;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import jakarta.annotation.PreDestroy;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@Component
+public class DatabaseInvalidationBus implements InvalidationBus {
+
+    private static final String THREAD_NAME = "invalidation-poller";
+    private static final long PURGE_INTERVAL_MINUTES = 1;
+
+    private final CacheChangeLogRepository cacheChangeLogRepository;
+    private final TransactionTemplate publishingTransaction;
+    private final Map<EntityType, List<InvalidationListener>> listeners = new EnumMap<>(EntityType.class);
+    private final String nodeId = UUID.randomUUID().toString();
+    private final Set<Long> deliveredIds = new HashSet<>();
+    private final boolean pollingEnabled;
+    private final Duration pollInterval;
+    private final Duration retention;
+    private final int overlap;
+    private final int batchSize;
+
+    private ScheduledExecutorService poller;
+    private long watermark;
+
+    public DatabaseInvalidationBus(
+            CacheChangeLogRepository cacheChangeLogRepository,
+            PlatformTransactionManager transactionManager,
+            List<InvalidationListener> listeners,
+            @Value("${codezap.invalidation.polling.enabled:true}") boolean pollingEnabled,
+            @Value("${codezap.invalidation.polling.interval:1s}") Duration pollInterval,
+            @Value("${codezap.invalidation.polling.overlap:100}") int overlap,
+            @Value("${codezap.invalidation.polling.batch-size:1000}") int batchSize,
+            @Value("${codezap.invalidation.retention:1h}") Duration retention
+    ) {
+        if (batchSize <= overlap) {
+            throw new IllegalStateException("변경 로그 조회 개수는 재조회 구간보다 커야 합니다.");
+        }
+        this.cacheChangeLogRepository = cacheChangeLogRepository;
+        this.publishingTransaction = new TransactionTemplate(transactionManager);
+        this.publishingTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        listeners.forEach(listener -> this.listeners
+                .computeIfAbsent(listener.entityType(), key -> new ArrayList<>())
+                .add(listener));
+        this.pollingEnabled = pollingEnabled;
+        this.pollInterval = pollInterval;
+        this.overlap = overlap;
+        this.batchSize = batchSize;
+        this.retention = retention;
+    }
+
+    @Override
+    public void publish(EntityType entityType, Collection<Long> entityIds) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            publishNow(entityType, entityIds);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                publishNow(entityType, entityIds);
+            }
+        });
+    }
+
+    private void publishNow(EntityType entityType, Collection<Long> entityIds) {
+        LocalDateTime now = LocalDateTime.now();
+        try {
+            List<CacheChangeLog> changes = publishingTransaction.execute(status -> cacheChangeLogRepository.saveAll(
+                    entityIds.stream()
+                            .map(entityId -> new CacheChangeLog(nodeId, entityType, entityId, now))
+                            .toList()
+            ));
+            changes.forEach(change -> deliverLocally(change.toEvent()));
+        } catch (RuntimeException e) {
+            log.warn("캐시 무효화 이벤트 기록 실패: {} {}", entityType, entityIds, e);
+            entityIds.forEach(entityId -> deliverLocally(new InvalidationEvent(entityType, entityId, 0)));
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void startPolling() {
+        if (!pollingEnabled) {
+            return;
+        }
+        watermark = cacheChangeLogRepository.findMaxId();
+        poller = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, THREAD_NAME);
+            thread.setDaemon(true);
+            return thread;
+        });
+        long intervalMillis = pollInterval.toMillis();
+        poller.scheduleWithFixedDelay(this::pollSafely, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+        poller.scheduleWithFixedDelay(
+                this::purgeSafely, PURGE_INTERVAL_MINUTES, PURGE_INTERVAL_MINUTES, TimeUnit.MINUTES);
+    }
+
+    private void pollSafely() {
+        try {
+            poll();
+        } catch (RuntimeException e) {
+            log.warn("캐시 무효화 이벤트 조회 실패", e);
+        }
+    }
+
+    private void purgeSafely() {
+        try {
+            cacheChangeLogRepository.deleteAllByCreatedAtBefore(LocalDateTime.now().minus(retention));
+        } catch (RuntimeException e) {
+            log.warn("캐시 무효화 이벤트 정리 실패", e);
+        }
+    }
+
+    void poll() {
+        List<CacheChangeLog> changes = cacheChangeLogRepository.findAllByIdGreaterThan(
+                Math.max(0, watermark - overlap), PageRequest.ofSize(batchSize));
+        for (CacheChangeLog change : changes) {
+            if (deliveredIds.add(change.getId()) && !nodeId.equals(change.getNodeId())) {
+                deliver(change.toEvent());
+            }
+            watermark = Math.max(watermark, change.getId());
+        }
+        deliveredIds.removeIf(id -> id <= watermark - overlap);
+    }
+
+    private void deliverLocally(InvalidationEvent event) {
+        listeners.getOrDefault(event.entityType(), List.of()).stream()
+                .filter(InvalidationListener::acceptsLocalEvents)
+                .forEach(listener -> listener.invalidate(event));
+    }
+
+    private void deliver(InvalidationEvent event) {
+        listeners.getOrDefault(event.entityType(), List.of())
+                .forEach(listener -> listener.invalidate(event));
+    }
+
+    @PreDestroy
+    public void close() {
+        if (poller != null) {
+            poller.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,7 @@
+package codezap.global.invalidation;
+
+public enum EntityType {
+    TEMPLATE,
+    CATEGORY,
+    MEMBER
+}
@@ -0,0 +1,13 @@
+package codezap.global.invalidation;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface InvalidationBus {
+
+    default void publish(EntityType entityType, Long entityId) {
+        publish(entityType, List.of(entityId));
+    }
+
+    void publish(EntityType entityType, Collection<Long> entityIds);
+}
@@ -0,0 +1,8 @@
+package codezap.global.invalidation;
+
+public record InvalidationEvent(
+        EntityType entityType,
+        Long entityId,
+        long version
+) {
+}
@@ -0,0 +1,12 @@
+package codezap.global.invalidation;
+
+public interface InvalidationListener {
+
+    EntityType entityType();
+
+    default boolean acceptsLocalEvents() {
+        return true;
+    }
+
+    void invalidate(InvalidationEvent event);
+}
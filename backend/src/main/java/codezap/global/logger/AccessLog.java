@@ -0,0 +1,19 @@
+package codezap.global.logger;
+
+import java.util.Map;
+
+public record AccessLog(
+        String method,
+        String uri,
+        int status,
+        long durationMillis,
+        Map<String, String> context,
+        Map<String, String> requestHeaders,
+        byte[] requestBody,
+        Map<String, String> responseHeaders,
+        byte[] responseBody
+) {
+    public boolean hasBody() {
+        return requestBody != null || responseBody != null;
+    }
+}
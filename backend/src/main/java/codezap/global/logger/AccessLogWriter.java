@@ -0,0 +1,106 @@
+package codezap.global.logger;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+import jakarta.annotation.PreDestroy;
+
+import org.slf4j.MDC;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import codezap.global.metric.sql.SqlMetricInterceptor;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@Component
+public class AccessLogWriter {
+
+    private static final String THREAD_NAME = "access-log-writer";
+
+    private final BlockingQueue<AccessLog> queue;
+    private final AtomicLong droppedCount = new AtomicLong();
+    private final Thread writerThread;
+
+    public AccessLogWriter(@Value("${codezap.access-log.queue-capacity:10000}") int queueCapacity) {
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.writerThread = new Thread(this::run, THREAD_NAME);
+        this.writerThread.setDaemon(true);
+        this.writerThread.start();
+    }
+
+    public void write(AccessLog accessLog) {
+        if (!queue.offer(accessLog)) {
+            droppedCount.incrementAndGet();
+        }
+    }
+
+    private void run() {
+        while (!Thread.currentThread().isInterrupted()) {
+            try {
+                print(queue.take());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } catch (RuntimeException e) {
+                log.warn("접근 로그 출력 실패", e);
+            }
+        }
+    }
+
+    private void print(AccessLog accessLog) {
+        if (accessLog.context() != null) {
+            MDC.setContextMap(accessLog.context());
+        }
+        try {
+            log.info("[Access] {} {}, Status: {}, Duration: {}ms{}", accessLog.method(), accessLog.uri(),
+                    accessLog.status(), accessLog.durationMillis(), formatSql(accessLog.context()));
+            if (accessLog.hasBody()) {
+                log.info("[Request] 헤더 값: {} \n 요청 바디: {}",
+                        formatHeaders(accessLog.requestHeaders()), formatBody(accessLog.requestBody()));
+                log.info("[Response] 헤더 값: {} \n 응답 바디: {}",
+                        formatHeaders(accessLog.responseHeaders()), formatBody(accessLog.responseBody()));
+            }
+            reportDropped();
+        } finally {
+            MDC.clear();
+        }
+    }
+
+    private String formatSql(Map<String, String> context) {
+        if (context == null || !context.containsKey(SqlMetricInterceptor.SQL_COUNT)) {
+            return "";
+        }
+        return ", SQL: " + context.get(SqlMetricInterceptor.SQL_COUNT) + "건 "
+                + context.get(SqlMetricInterceptor.SQL_MILLIS) + "ms "
+                + context.get(SqlMetricInterceptor.SQL_ROWS) + "행";
+    }
+
+    private String formatHeaders(Map<String, String> headers) {
+        return headers.entrySet().stream()
+                .map(header -> header.getKey() + " : " + header.getValue())
+                .collect(Collectors.joining("\n"));
+    }
+
+    private String formatBody(byte[] body) {
+        if (body == null) {
+            return "";
+        }
+        return new String(body, StandardCharsets.UTF_8);
+    }
+
+    private void reportDropped() {
+        long dropped = droppedCount.getAndSet(0);
+        if (dropped > 0) {
+            log.warn("접근 로그 큐가 가득 차 {}건의 로그를 버렸습니다.", dropped);
+        }
+    }
+
+    @PreDestroy
+    public void close() {
+        writerThread.interrupt();
+    }
+}
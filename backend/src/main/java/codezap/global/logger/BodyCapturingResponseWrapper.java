@@ -0,0 +1,152 @@
+package codezap.global.logger;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.io.Writer;
+import java.nio.charset.Charset;
+
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.WriteListener;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+
+public class BodyCapturingResponseWrapper extends HttpServletResponseWrapper {
+
+    private final int captureLimit;
+    private final ByteArrayOutputStream captured = new ByteArrayOutputStream();
+    private final StringBuilder capturedCharacters = new StringBuilder();
+    private ServletOutputStream outputStream;
+    private PrintWriter writer;
+
+    public BodyCapturingResponseWrapper(HttpServletResponse response, int captureLimit) {
+        super(response);
+        this.captureLimit = captureLimit;
+    }
+
+    @Override
+    public ServletOutputStream getOutputStream() throws IOException {
+        if (outputStream == null) {
+            outputStream = new CapturingOutputStream(super.getOutputStream());
+        }
+        return outputStream;
+    }
+
+    @Override
+    public PrintWriter getWriter() throws IOException {
+        if (writer == null) {
+            writer = new PrintWriter(new CapturingWriter(super.getWriter()));
+        }
+        return writer;
+    }
+
+    @Override
+    public void reset() {
+        super.reset();
+        clearCaptured();
+    }
+
+    @Override
+    public void resetBuffer() {
+        super.resetBuffer();
+        clearCaptured();
+    }
+
+    private void clearCaptured() {
+        captured.reset();
+        capturedCharacters.setLength(0);
+    }
+
+    public byte[] getCapturedBody() {
+        if (capturedCharacters.isEmpty()) {
+            return captured.toByteArray();
+        }
+        return capturedCharacters.toString().getBytes(Charset.forName(getCharacterEncoding()));
+    }
+
+    private void capture(int b) {
+        if (captured.size() < captureLimit) {
+            captured.write(b);
+        }
+    }
+
+    private void capture(byte[] bytes, int offset, int length) {
+        int capturable = Math.min(length, captureLimit - captured.size());
+        if (capturable > 0) {
+            captured.write(bytes, offset, capturable);
+        }
+    }
+
+    private void capture(char[] characters, int offset, int length) {
+        int capturable = Math.min(length, captureLimit - capturedCharacters.length());
+        if (capturable > 0) {
+            capturedCharacters.append(characters, offset, capturable);
+        }
+    }
+
+    private class CapturingOutputStream extends ServletOutputStream {
+
+        private final ServletOutputStream delegate;
+
+        private CapturingOutputStream(ServletOutputStream delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            delegate.write(b);
+            capture(b);
+        }
+
+        @Override
+        public void write(byte[] bytes, int offset, int length) throws IOException {
+            delegate.write(bytes, offset, length);
+            capture(bytes, offset, length);
+        }
+
+        @Override
+        public void flush() throws IOException {
+            delegate.flush();
+        }
+
+        @Override
+        public void close() throws IOException {
+            delegate.close();
+        }
+
+        @Override
+        public boolean isReady() {
+            return delegate.isReady();
+        }
+
+        @Override
+        public void setWriteListener(WriteListener writeListener) {
+            delegate.setWriteListener(writeListener);
+        }
+    }
+
+    private class CapturingWriter extends Writer {
+
+        private final Writer delegate;
+
+        private CapturingWriter(Writer delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public void write(char[] characters, int offset, int length) throws IOException {
+            delegate.write(characters, offset, length);
+            capture(characters, offset, length);
+        }
+
+        @Override
+        public void flush() throws IOException {
+            delegate.flush();
+        }
+
+        @Override
+        public void close() throws IOException {
+            delegate.close();
+        }
+    }
+}
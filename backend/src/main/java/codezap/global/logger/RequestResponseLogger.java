@@ -1,62 +1,116 @@
 package codezap.global.logger;
 
 import java.io.IOException;
-import java.nio.charset.StandardCharsets;
-import java.util.stream.Collectors;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
 
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 
+import org.slf4j.MDC;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 import org.springframework.web.util.ContentCachingRequestWrapper;
-import org.springframework.web.util.ContentCachingResponseWrapper;
 
-import lombok.extern.slf4j.Slf4j;
-
-@Slf4j
 @Component
 public class RequestResponseLogger extends OncePerRequestFilter {
 
+    private static final int ERROR_STATUS = 400;
+    private static final int FAILED_STATUS = 500;
+    private static final String REDACTED = "[REDACTED]";
+    private static final Set<String> SENSITIVE_HEADERS = Set.of(
+            HttpHeaders.AUTHORIZATION.toLowerCase(Locale.ROOT),
+            HttpHeaders.COOKIE.toLowerCase(Locale.ROOT),
+            HttpHeaders.SET_COOKIE.toLowerCase(Locale.ROOT)
+    );
+
+    private final AccessLogWriter accessLogWriter;
+    private final double sampleRate;
+    private final int maxBodyBytes;
+
+    public RequestResponseLogger(
+            AccessLogWriter accessLogWriter,
+            @Value("${codezap.access-log.sample-rate:0.01}") double sampleRate,
+            @Value("${codezap.access-log.max-body-bytes:1024}") int maxBodyBytes
+    ) {
+        this.accessLogWriter = accessLogWriter;
+        this.sampleRate = sampleRate;
+        this.maxBodyBytes = maxBodyBytes;
+    }
+
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
             throws ServletException, IOException {
-        ContentCachingRequestWrapper requestWrapper = new ContentCachingRequestWrapper(request);
-        ContentCachingResponseWrapper responseWrapper = new ContentCachingResponseWrapper(response);
+        ContentCachingRequestWrapper requestWrapper = new ContentCachingRequestWrapper(request, maxBodyBytes);
+        BodyCapturingResponseWrapper responseWrapper = new BodyCapturingResponseWrapper(response, maxBodyBytes);
 
         long startTime = System.currentTimeMillis();
-        filterChain.doFilter(requestWrapper, responseWrapper);
-        long duration = System.currentTimeMillis() - startTime;
+        boolean failed = false;
+        try {
+            filterChain.doFilter(requestWrapper, responseWrapper);
+        } catch (Throwable e) {
+            failed = true;
+            throw e;
+        } finally {
+            long duration = System.currentTimeMillis() - startTime;
+            int status = resolveStatus(responseWrapper, failed);
+            accessLogWriter.write(createAccessLog(requestWrapper, responseWrapper, status, duration));
+        }
+    }
 
-        log.info("[Request] {} {}, 헤더 값: {} \n 요청 바디: {}", request.getMethod(), request.getRequestURI(),
-                getHeaderAndValue(requestWrapper), getBodyAsUtf8String(requestWrapper.getContentAsByteArray()));
-        log.info("[Response] Status: {}, Duration: {}ms, 헤더 값: {} \n 응답 바디: {}", response.getStatus(), duration,
-                getHeaderAndValue(responseWrapper), getBodyAsUtf8String(responseWrapper.getContentAsByteArray()));
+    private int resolveStatus(HttpServletResponse response, boolean failed) {
+        if (failed && response.getStatus() < ERROR_STATUS) {
+            return FAILED_STATUS;
+        }
+        return response.getStatus();
+    }
 
-        responseWrapper.copyBodyToResponse();
+    private AccessLog createAccessLog(
+            ContentCachingRequestWrapper request,
+            BodyCapturingResponseWrapper response,
+            int status,
+            long duration
+    ) {
+        if (!isSampled() && status < ERROR_STATUS) {
+            return new AccessLog(request.getMethod(), request.getRequestURI(), status, duration,
+                    MDC.getCopyOfContextMap(), null, null, null, null);
+        }
+        return new AccessLog(request.getMethod(), request.getRequestURI(), status, duration,
+                MDC.getCopyOfContextMap(),
+                getHeaders(request), request.getContentAsByteArray(),
+                getHeaders(response), response.getCapturedBody());
     }
 
-    private String getBodyAsUtf8String(byte[] bytes) {
-        return new String(bytes, StandardCharsets.UTF_8);
+    private boolean isSampled() {
+        return sampleRate > 0 && ThreadLocalRandom.current().nextDouble() < sampleRate;
     }
 
-    private String getHeaderAndValue(ContentCachingRequestWrapper requestWrapper) {
-        StringBuilder headerAndValue = new StringBuilder();
-        requestWrapper.getHeaderNames().asIterator().forEachRemaining(headerName -> {
-            String headerValue = requestWrapper.getHeader(headerName);
-            headerAndValue.append(headerName).append(" : ").append(headerValue).append("\n");
-        });
+    private Map<String, String> getHeaders(HttpServletRequest request) {
+        Map<String, String> headers = new LinkedHashMap<>();
+        request.getHeaderNames().asIterator().forEachRemaining(
+                headerName -> headers.put(headerName, redact(headerName, request.getHeader(headerName))));
+        return headers;
+    }
 
-        return headerAndValue.toString();
+    private Map<String, String> getHeaders(HttpServletResponse response) {
+        Map<String, String> headers = new LinkedHashMap<>();
+        response.getHeaderNames().forEach(
+                headerName -> headers.put(headerName, redact(headerName, response.getHeader(headerName))));
+        return headers;
     }
 
-    private String getHeaderAndValue(ContentCachingResponseWrapper requestWrapper) {
-        return requestWrapper.getHeaderNames().stream().map(headerName -> {
-            String headerValue = requestWrapper.getHeader(headerName);
-            return headerName + " : " + headerValue;
-        }).collect(Collectors.joining("\n"));
+    private String redact(String headerName, String value) {
+        if (SENSITIVE_HEADERS.contains(headerName.toLowerCase(Locale.ROOT))) {
+            return REDACTED;
+        }
+        return value;
     }
 
     @Override
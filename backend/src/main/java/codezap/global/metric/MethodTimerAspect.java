@@ -0,0 +1,69 @@
+package codezap.global.metric;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.annotation.Timed;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+
+@Aspect
+@Component
+@RequiredArgsConstructor
+public class MethodTimerAspect {
+
+    private static final String DEFAULT_METRIC_NAME = "method.timed";
+
+    private final MeterRegistry meterRegistry;
+    private final Map<Method, Timer> timers = new ConcurrentHashMap<>();
+
+    @Around("@within(io.micrometer.core.annotation.Timed) || @annotation(io.micrometer.core.annotation.Timed)")
+    public Object record(ProceedingJoinPoint joinPoint) throws Throwable {
+        Timer timer = getTimer(((MethodSignature) joinPoint.getSignature()).getMethod());
+        long startTime = System.nanoTime();
+        try {
+            return joinPoint.proceed();
+        } finally {
+            timer.record(System.nanoTime() - startTime, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private Timer getTimer(Method method) {
+        Timer timer = timers.get(method);
+        if (timer != null) {
+            return timer;
+        }
+        return timers.computeIfAbsent(method, this::createTimer);
+    }
+
+    private Timer createTimer(Method method) {
+        Timed timed = findTimed(method);
+        String name = timed.value().isEmpty() ? DEFAULT_METRIC_NAME : timed.value();
+        return Timer.builder(name)
+                .description(timed.description().isEmpty() ? null : timed.description())
+                .tags(timed.extraTags())
+                .tag("class", method.getDeclaringClass().getSimpleName())
+                .tag("method", method.getName())
+                .publishPercentiles(timed.percentiles())
+                .publishPercentileHistogram(timed.histogram())
+                .register(meterRegistry);
+    }
+
+    private Timed findTimed(Method method) {
+        Timed timed = AnnotatedElementUtils.findMergedAnnotation(method, Timed.class);
+        if (timed != null) {
+            return timed;
+        }
+        return AnnotatedElementUtils.findMergedAnnotation(method.getDeclaringClass(), Timed.class);
+    }
+}
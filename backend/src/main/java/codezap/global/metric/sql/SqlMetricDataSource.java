@@ -0,0 +1,134 @@
+package codezap.global.metric.sql;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+import javax.sql.DataSource;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+public class SqlMetricDataSource extends DelegatingDataSource {
+
+    public SqlMetricDataSource(DataSource targetDataSource) {
+        super(targetDataSource);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return proxy(Connection.class, new ConnectionHandler(super.getConnection()));
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return proxy(Connection.class, new ConnectionHandler(super.getConnection(username, password)));
+    }
+
+    private static <T> T proxy(Class<T> type, InvocationHandler handler) {
+        Object proxy = Proxy.newProxyInstance(SqlMetricDataSource.class.getClassLoader(), new Class[]{type}, handler);
+        return type.cast(proxy);
+    }
+
+    private abstract static class JdbcHandler implements InvocationHandler {
+
+        protected final Object target;
+
+        JdbcHandler(Object target) {
+            this.target = target;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            return switch (method.getName()) {
+                case "equals" -> proxy == args[0];
+                case "hashCode" -> System.identityHashCode(proxy);
+                default -> handle(method, args);
+            };
+        }
+
+        protected abstract Object handle(Method method, Object[] args) throws Throwable;
+
+        protected Object invokeTarget(Method method, Object[] args) throws Throwable {
+            try {
+                return method.invoke(target, args);
+            } catch (InvocationTargetException e) {
+                throw e.getTargetException();
+            }
+        }
+    }
+
+    private static class ConnectionHandler extends JdbcHandler {
+
+        ConnectionHandler(Connection target) {
+            super(target);
+        }
+
+        @Override
+        protected Object handle(Method method, Object[] args) throws Throwable {
+            Object result = invokeTarget(method, args);
+            return switch (method.getName()) {
+                case "createStatement" -> proxy(method.getReturnType(), new StatementHandler(result, null));
+                case "prepareStatement", "prepareCall" ->
+                        proxy(method.getReturnType(), new StatementHandler(result, (String) args[0]));
+                default -> result;
+            };
+        }
+    }
+
+    private static class StatementHandler extends JdbcHandler {
+
+        private final String sql;
+
+        StatementHandler(Object target, String sql) {
+            super(target);
+            this.sql = sql;
+        }
+
+        @Override
+        protected Object handle(Method method, Object[] args) throws Throwable {
+            if (!method.getName().startsWith("execute")) {
+                return wrapResultSet(invokeTarget(method, args));
+            }
+            long startTime = System.nanoTime();
+            try {
+                return wrapResultSet(invokeTarget(method, args));
+            } finally {
+                SqlStatistics.recordStatement(executedSql(args), System.nanoTime() - startTime);
+            }
+        }
+
+        private String executedSql(Object[] args) {
+            if (args != null && args.length > 0 && args[0] instanceof String executed) {
+                return executed;
+            }
+            return sql;
+        }
+
+        private Object wrapResultSet(Object result) {
+            if (result instanceof ResultSet resultSet) {
+                return proxy(ResultSet.class, new ResultSetHandler(resultSet));
+            }
+            return result;
+        }
+    }
+
+    private static class ResultSetHandler extends JdbcHandler {
+
+        ResultSetHandler(ResultSet target) {
+            super(target);
+        }
+
+        @Override
+        protected Object handle(Method method, Object[] args) throws Throwable {
+            Object result = invokeTarget(method, args);
+            if (Boolean.TRUE.equals(result) && "next".equals(method.getName())) {
+                SqlStatistics.recordRow();
+            }
+            return result;
+        }
+    }
+}
@@ -0,0 +1,95 @@
+package codezap.global.metric.sql;
+
+import java.util.concurrent.TimeUnit;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+import org.slf4j.MDC;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@Component
+public class SqlMetricInterceptor implements HandlerInterceptor {
+
+    public static final String SQL_COUNT = "sqlCount";
+    public static final String SQL_MILLIS = "sqlMillis";
+    public static final String SQL_ROWS = "sqlRows";
+
+    private static final String HANDLER_TAG = "handler";
+
+    private final MeterRegistry meterRegistry;
+    private final int budget;
+    private final int maxLoggedStatements;
+
+    public SqlMetricInterceptor(
+            MeterRegistry meterRegistry,
+            @Value("${codezap.sql-metric.budget:20}") int budget,
+            @Value("${codezap.sql-metric.max-logged-statements:50}") int maxLoggedStatements
+    ) {
+        this.meterRegistry = meterRegistry;
+        this.budget = budget;
+        this.maxLoggedStatements = maxLoggedStatements;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        SqlStatistics.start(maxLoggedStatements);
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(
+            HttpServletRequest request,
+            HttpServletResponse response,
+            Object handler,
+            Exception exception
+    ) {
+        SqlStatistics statistics = SqlStatistics.end();
+        if (statistics == null) {
+            return;
+        }
+        String handlerName = getHandlerName(handler);
+        record(handlerName, statistics);
+        MDC.put(SQL_COUNT, String.valueOf(statistics.count()));
+        MDC.put(SQL_MILLIS, String.valueOf(TimeUnit.NANOSECONDS.toMillis(statistics.elapsedNanos())));
+        MDC.put(SQL_ROWS, String.valueOf(statistics.rows()));
+        if (statistics.count() > budget) {
+            log.warn("[SQL] {} 요청이 쿼리 예산 {}개를 초과해 {}개의 쿼리를 실행했습니다. \n {}",
+                    handlerName, budget, statistics.count(), String.join("\n ", statistics.statements()));
+        }
+    }
+
+    private void record(String handlerName, SqlStatistics statistics) {
+        DistributionSummary.builder("http.server.sql.statements")
+                .tag(HANDLER_TAG, handlerName)
+                .publishPercentileHistogram()
+                .register(meterRegistry)
+                .record(statistics.count());
+        Timer.builder("http.server.sql.time")
+                .tag(HANDLER_TAG, handlerName)
+                .publishPercentileHistogram()
+                .register(meterRegistry)
+                .record(statistics.elapsedNanos(), TimeUnit.NANOSECONDS);
+        DistributionSummary.builder("http.server.sql.rows")
+                .tag(HANDLER_TAG, handlerName)
+                .publishPercentileHistogram()
+                .register(meterRegistry)
+                .record(statistics.rows());
+    }
+
+    private String getHandlerName(Object handler) {
+        if (handler instanceof HandlerMethod handlerMethod) {
+            return handlerMethod.getBeanType().getSimpleName() + "." + handlerMethod.getMethod().getName();
+        }
+        return handler.getClass().getSimpleName();
+    }
+}
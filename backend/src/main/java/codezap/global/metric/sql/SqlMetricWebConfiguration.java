@@ -0,0 +1,19 @@
+package codezap.global.metric.sql;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import lombok.RequiredArgsConstructor;
+
+@Configuration
+@RequiredArgsConstructor
+public class SqlMetricWebConfiguration implements WebMvcConfigurer {
+
+    private final SqlMetricInterceptor sqlMetricInterceptor;
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(sqlMetricInterceptor);
+    }
+}
@@ -0,0 +1,65 @@
+package codezap.global.metric.sql;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+public class SqlStatistics {
+
+    private static final ThreadLocal<SqlStatistics> CURRENT = new ThreadLocal<>();
+
+    private final int maxStatements;
+    private final List<String> statements = new ArrayList<>();
+    private long count;
+    private long elapsedNanos;
+    private long rows;
+
+    private SqlStatistics(int maxStatements) {
+        this.maxStatements = maxStatements;
+    }
+
+    public static void start(int maxStatements) {
+        CURRENT.set(new SqlStatistics(maxStatements));
+    }
+
+    public static SqlStatistics end() {
+        SqlStatistics statistics = CURRENT.get();
+        CURRENT.remove();
+        return statistics;
+    }
+
+    static void recordStatement(String sql, long elapsedNanos) {
+        SqlStatistics statistics = CURRENT.get();
+        if (statistics == null) {
+            return;
+        }
+        statistics.count++;
+        statistics.elapsedNanos += elapsedNanos;
+        if (statistics.statements.size() < statistics.maxStatements) {
+            statistics.statements.add(sql);
+        }
+    }
+
+    static void recordRow() {
+        SqlStatistics statistics = CURRENT.get();
+        if (statistics != null) {
+            statistics.rows++;
+        }
+    }
+
+    public long count() {
+        return count;
+    }
+
+    public long elapsedNanos() {
+        return elapsedNanos;
+    }
+
+    public long rows() {
+        return rows;
+    }
+
+    public List<String> statements() {
+        return Collections.unmodifiableList(statements);
+    }
+}
@@ -8,6 +8,7 @@ import org.springframework.web.context.request.NativeWebRequest;
 import org.springframework.web.method.support.HandlerMethodArgumentResolver;
 import org.springframework.web.method.support.ModelAndViewContainer;
 
+import codezap.member.dto.MemberDto;
 import codezap.member.service.AuthService;
 import lombok.RequiredArgsConstructor;
 
@@ -15,6 +16,7 @@ import lombok.RequiredArgsConstructor;
 public class AuthArgumentResolver implements HandlerMethodArgumentResolver {
 
     private final AuthService authService;
+    private final AuthenticationCache authenticationCache;
 
     @Override
     public boolean supportsParameter(MethodParameter parameter) {
@@ -29,6 +31,14 @@ public class AuthArgumentResolver implements HandlerMethodArgumentResolver {
             WebDataBinderFactory binderFactory
     ) {
         HttpServletRequest request = (HttpServletRequest) webRequest.getNativeRequest();
-        return authService.authorizeByCookie(request.getCookies());
+        String credential = authService.getAuthCookieValue(request.getCookies());
+        return authenticate(credential);
+    }
+
+    private MemberDto authenticate(String credential) {
+        if (authService.isSessionToken(credential)) {
+            return authService.authorizeBySessionToken(credential);
+        }
+        return authenticationCache.get(credential, authService::authorizeByCredential);
     }
 }
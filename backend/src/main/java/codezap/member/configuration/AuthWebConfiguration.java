@@ -14,9 +14,10 @@ import lombok.RequiredArgsConstructor;
 public class AuthWebConfiguration implements WebMvcConfigurer {
 
     private final AuthService authService;
+    private final AuthenticationCache authenticationCache;
 
     @Override
     public void addArgumentResolvers(List<HandlerMethodArgumentResolver> resolvers) {
-        resolvers.add(new AuthArgumentResolver(authService));
+        resolvers.add(new AuthArgumentResolver(authService, authenticationCache));
     }
 }
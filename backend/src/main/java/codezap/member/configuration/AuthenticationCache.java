@@ -0,0 +1,82 @@
+package codezap.member.configuration;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.function.Function;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import codezap.global.invalidation.EntityType;
+import codezap.global.invalidation.InvalidationEvent;
+import codezap.global.invalidation.InvalidationListener;
+import codezap.member.dto.MemberDto;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+@Component
+public class AuthenticationCache implements InvalidationListener {
+
+    private static final String CACHE_NAME = "authentication";
+    private static final String HASH_ALGORITHM = "SHA-256";
+
+    private final Cache<String, AuthenticatedMember> cache;
+
+    public AuthenticationCache(
+            @Value("${codezap.auth.cache.maximum-size:10000}") long maximumSize,
+            @Value("${codezap.auth.cache.ttl:5m}") Duration ttl,
+            MeterRegistry meterRegistry
+    ) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    public MemberDto get(String credential, Function<String, MemberDto> authorizer) {
+        return cache.get(hash(credential), key -> AuthenticatedMember.from(authorizer.apply(credential)))
+                .toMemberDto();
+    }
+
+    public void evict(Long memberId) {
+        cache.asMap().values().removeIf(member -> member.id().equals(memberId));
+    }
+
+    @Override
+    public EntityType entityType() {
+        return EntityType.MEMBER;
+    }
+
+    @Override
+    public void invalidate(InvalidationEvent event) {
+        evict(event.entityId());
+    }
+
+    private String hash(String credential) {
+        try {
+            byte[] digest = MessageDigest.getInstance(HASH_ALGORITHM)
+                    .digest(credential.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private record AuthenticatedMember(Long id, String username) {
+
+        static AuthenticatedMember from(MemberDto memberDto) {
+            return new AuthenticatedMember(memberDto.id(), memberDto.username());
+        }
+
+        MemberDto toMemberDto() {
+            return new MemberDto(id, null, null, username);
+        }
+    }
+}
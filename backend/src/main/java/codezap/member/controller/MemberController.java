@@ -1,7 +1,5 @@
 package codezap.member.controller;
 
-import java.nio.charset.StandardCharsets;
-
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
@@ -51,8 +49,7 @@ public class MemberController implements SpringDocMemberController {
     @ResponseStatus(HttpStatus.OK)
     public LoginResponse login(@Valid @RequestBody LoginRequest request, HttpServletResponse response) {
         MemberDto member = memberService.login(request);
-        String basicAuth = HttpHeaders.encodeBasicAuth(member.email(), member.password(), StandardCharsets.UTF_8);
-        ResponseCookie cookie = ResponseCookie.from(HttpHeaders.AUTHORIZATION, basicAuth)
+        ResponseCookie cookie = ResponseCookie.from(HttpHeaders.AUTHORIZATION, memberService.issueCredential(member))
                 .maxAge(-1)
                 .path("/")
                 .sameSite("None")
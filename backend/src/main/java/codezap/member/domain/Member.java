@@ -39,6 +39,10 @@ public class Member extends BaseTimeEntity {
         this(null, email, password, username);
     }
 
+    public void changePassword(String password) {
+        this.password = password;
+    }
+
     public boolean matchPassword(String password) {
         return Objects.equals(this.password, password);
     }
@@ -11,4 +11,8 @@ public record MemberDto(
     public static MemberDto from(Member member) {
         return new MemberDto(member.getId(), member.getEmail(), member.getPassword(), member.getUsername());
     }
+
+    public static MemberDto fromId(Long id) {
+        return new MemberDto(id, null, null, null);
+    }
 }
@@ -4,6 +4,7 @@ import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
 import java.util.Base64;
 import java.util.Objects;
+import java.util.regex.Pattern;
 
 import jakarta.servlet.http.Cookie;
 
@@ -15,16 +16,19 @@ import codezap.global.exception.CodeZapException;
 import codezap.member.domain.Member;
 import codezap.member.dto.MemberDto;
 import codezap.member.repository.MemberRepository;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 
 @Service
+@Timed(histogram = true)
 @RequiredArgsConstructor
 public class AuthService {
 
-    private static final String BASIC_AUTH_REGEX = ".+:.+";
+    private static final Pattern BASIC_AUTH_PATTERN = Pattern.compile(".+:.+");
     private static final String BASIC_AUTH_DELIMITER = ":";
 
     private final MemberRepository memberRepository;
+    private final SessionTokenProvider sessionTokenProvider;
 
     public MemberDto authorizeByEmailAndPassword(String email, String password) {
         Member member = memberRepository.findByEmail(email).orElseThrow(this::throwUnauthorized);
@@ -35,14 +39,36 @@ public class AuthService {
     }
 
     public MemberDto authorizeByCookie(Cookie[] cookies) {
-        String authHeaderValue = getAuthCookieValue(cookies);
-        String[] credentials = decodeCredentials(authHeaderValue);
+        String credential = getAuthCookieValue(cookies);
+        if (isSessionToken(credential)) {
+            return authorizeBySessionToken(credential);
+        }
+        return authorizeByCredential(credential);
+    }
+
+    public boolean isSessionToken(String credential) {
+        return sessionTokenProvider.isToken(credential);
+    }
+
+    public MemberDto authorizeBySessionToken(String token) {
+        return MemberDto.fromId(sessionTokenProvider.verify(token));
+    }
+
+    public String issueCredential(MemberDto member) {
+        if (sessionTokenProvider.isEnabled()) {
+            return sessionTokenProvider.issue(member.id());
+        }
+        return HttpHeaders.encodeBasicAuth(member.email(), member.password(), StandardCharsets.UTF_8);
+    }
+
+    public MemberDto authorizeByCredential(String encodedCredentials) {
+        String[] credentials = decodeCredentials(encodedCredentials);
         String email = credentials[0];
         String password = credentials[1];
         return authorizeByEmailAndPassword(email, password);
     }
 
-    private String getAuthCookieValue(Cookie[] cookies) {
+    public String getAuthCookieValue(Cookie[] cookies) {
         if (cookies == null || cookies.length == 0) {
             throwUnauthorized();
         }
@@ -53,10 +79,10 @@ public class AuthService {
                 .orElseThrow(this::throwUnauthorized);
     }
 
-    private String[] decodeCredentials(String encodedCredentials) {
+    String[] decodeCredentials(String encodedCredentials) {
         byte[] decodedBytes = Base64.getDecoder().decode(encodedCredentials.getBytes(StandardCharsets.UTF_8));
         String decodedString = new String(decodedBytes);
-        if (!decodedString.matches(BASIC_AUTH_REGEX)) {
+        if (!BASIC_AUTH_PATTERN.matcher(decodedString).matches()) {
             throwUnauthorized();
         }
         return decodedString.split(BASIC_AUTH_DELIMITER);
@@ -4,26 +4,36 @@ import jakarta.servlet.http.Cookie;
 
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import codezap.category.domain.Category;
 import codezap.category.repository.CategoryRepository;
+import codezap.global.datasource.ReplicationLagGuard;
 import codezap.global.exception.CodeZapException;
+import codezap.global.invalidation.EntityType;
+import codezap.global.invalidation.InvalidationBus;
 import codezap.member.domain.Member;
 import codezap.member.dto.LoginRequest;
 import codezap.member.dto.MemberDto;
 import codezap.member.dto.SignupRequest;
 import codezap.member.repository.MemberRepository;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 
 @Service
+@Timed(histogram = true)
 @RequiredArgsConstructor
 public class MemberService {
 
     private final MemberRepository memberRepository;
     private final AuthService authService;
     private final CategoryRepository categoryJpaRepository;
+    private final ReplicationLagGuard replicationLagGuard;
+    private final InvalidationBus invalidationBus;
 
+    @Transactional
     public Member signup(SignupRequest request) {
+        replicationLagGuard.pinPrimary();
         assertUniqueEmail(request.email());
         assertUniqueUsername(request.username());
         Member member = new Member(request.email(), request.password(), request.username());
@@ -32,20 +42,36 @@ public class MemberService {
         return saved;
     }
 
+    @Transactional(readOnly = true)
     public MemberDto login(LoginRequest request) {
+        replicationLagGuard.pinPrimary();
         return authService.authorizeByEmailAndPassword(request.email(), request.password());
     }
 
+    @Transactional
+    public void changePassword(MemberDto memberDto, String password) {
+        Member member = memberRepository.fetchById(memberDto.id());
+        member.changePassword(password);
+        memberRepository.save(member);
+        invalidationBus.publish(EntityType.MEMBER, member.getId());
+    }
+
+    public String issueCredential(MemberDto member) {
+        return authService.issueCredential(member);
+    }
+
     public void checkLogin(Cookie[] cookies) {
         authService.authorizeByCookie(cookies);
     }
 
+    @Transactional(readOnly = true)
     public void assertUniqueEmail(String email) {
         if (memberRepository.existsByEmail(email)) {
             throw new CodeZapException(HttpStatus.CONFLICT, "이메일이 이미 존재합니다.");
         }
     }
 
+    @Transactional(readOnly = true)
     public void assertUniqueUsername(String username) {
         if (memberRepository.existsByUsername(username)) {
             throw new CodeZapException(HttpStatus.CONFLICT, "사용자명이 이미 존재합니다.");
@@ -0,0 +1,131 @@
+package codezap.member.service;
+
+import java.nio.charset.StandardCharsets;
+import java.security.InvalidKeyException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+
+import codezap.global.exception.CodeZapException;
+
+@Component
+public class SessionTokenProvider {
+
+    private static final String ALGORITHM = "HmacSHA256";
+    private static final String KEY_ID_ALGORITHM = "SHA-256";
+    private static final String DELIMITER = ".";
+    private static final int TOKEN_PARTS = 4;
+    private static final int KEY_ID_LENGTH = 8;
+
+    private final boolean enabled;
+    private final Duration ttl;
+    private final Clock clock;
+    private final String signingKeyId;
+    private final Map<String, SecretKeySpec> verifyingKeys = new LinkedHashMap<>();
+
+    @Autowired
+    public SessionTokenProvider(
+            @Value("${codezap.auth.token.enabled:false}") boolean enabled,
+            @Value("${codezap.auth.token.secret:}") String secret,
+            @Value("${codezap.auth.token.previous-secrets:}") String[] previousSecrets,
+            @Value("${codezap.auth.token.ttl:7d}") Duration ttl
+    ) {
+        this(enabled, secret, previousSecrets, ttl, Clock.systemUTC());
+    }
+
+    SessionTokenProvider(boolean enabled, String secret, String[] previousSecrets, Duration ttl, Clock clock) {
+        if (enabled && secret.isBlank()) {
+            throw new IllegalStateException("세션 토큰을 사용하려면 codezap.auth.token.secret을 설정해야 합니다.");
+        }
+        this.enabled = enabled;
+        this.ttl = ttl;
+        this.clock = clock;
+        this.signingKeyId = secret.isBlank() ? null : addVerifyingKey(secret);
+        Arrays.stream(previousSecrets)
+                .filter(previousSecret -> !previousSecret.isBlank())
+                .forEach(this::addVerifyingKey);
+    }
+
+    private String addVerifyingKey(String secret) {
+        String keyId = keyId(secret);
+        verifyingKeys.putIfAbsent(keyId, new SecretKeySpec(secret.getBytes(StandardCharsets.UTF_8), ALGORITHM));
+        return keyId;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public boolean isToken(String credential) {
+        return credential.contains(DELIMITER);
+    }
+
+    public String issue(Long memberId) {
+        long expiresAt = clock.instant().plus(ttl).getEpochSecond();
+        String payload = String.join(DELIMITER, String.valueOf(memberId), String.valueOf(expiresAt), signingKeyId);
+        return payload + DELIMITER + sign(verifyingKeys.get(signingKeyId), payload);
+    }
+
+    public Long verify(String token) {
+        String[] parts = token.split("\\.", -1);
+        if (parts.length != TOKEN_PARTS) {
+            throw unauthorized();
+        }
+        SecretKeySpec key = verifyingKeys.get(parts[2]);
+        if (key == null) {
+            throw unauthorized();
+        }
+        String payload = String.join(DELIMITER, parts[0], parts[1], parts[2]);
+        byte[] expected = sign(key, payload).getBytes(StandardCharsets.UTF_8);
+        if (!MessageDigest.isEqual(expected, parts[3].getBytes(StandardCharsets.UTF_8))) {
+            throw unauthorized();
+        }
+        try {
+            if (Long.parseLong(parts[1]) < clock.instant().getEpochSecond()) {
+                throw unauthorized();
+            }
+            return Long.parseLong(parts[0]);
+        } catch (NumberFormatException e) {
+            throw unauthorized();
+        }
+    }
+
+    private String sign(SecretKeySpec key, String payload) {
+        try {
+            Mac mac = Mac.getInstance(ALGORITHM);
+            mac.init(key);
+            byte[] signature = mac.doFinal(payload.getBytes(StandardCharsets.UTF_8));
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(signature);
+        } catch (NoSuchAlgorithmException | InvalidKeyException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private String keyId(String secret) {
+        try {
+            byte[] digest = MessageDigest.getInstance(KEY_ID_ALGORITHM)
+                    .digest(secret.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest).substring(0, KEY_ID_LENGTH);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private CodeZapException unauthorized() {
+        return new CodeZapException(HttpStatus.UNAUTHORIZED, "인증에 실패했습니다.");
+    }
+}
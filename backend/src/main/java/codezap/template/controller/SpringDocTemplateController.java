@@ -7,6 +7,7 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.context.request.WebRequest;
 
 import codezap.global.swagger.error.ApiErrorResponse;
 import codezap.global.swagger.error.ErrorCase;
@@ -58,6 +59,10 @@ public interface SpringDocTemplateController {
               - 오래된순 (createdAt,desc)
             조회 조건으로 페이지 인덱스, 한 페이지에 들어갈 최대 템플릿의 개수를 변경할 수 있습니다.
             페이지 인덱스는 1, 템플릿 개수는 20개가 기본 값입니다.
+            - 커서 조회
+              - cursor 파라미터를 보내면 수정일 최신순 커서 조회로 동작하며 페이지 인덱스와 정렬 조건은 무시됩니다.
+              - 첫 페이지는 빈 값(cursor=)으로, 다음 페이지는 응답의 nextCursor 값으로 조회합니다.
+              - 커서 조회에서는 전체 페이지 개수와 총 템플릿 개수를 계산하지 않고 -1을 반환합니다.
             """)
     @ApiResponse(responseCode = "200", description = "템플릿 단건 조회 성공",
             content = {@Content(schema = @Schema(implementation = ExploreTemplatesResponse.class))})
@@ -67,24 +72,29 @@ public interface SpringDocTemplateController {
             String keyword,
             Long categoryId,
             List<Long> tagIds,
+            String cursor,
             Pageable pageable
     );
 
     @Operation(summary = "태그 목록 조회", description = """
-            유저가 가지고 있는 태그 목록을 조회합니다.
+            유저가 가지고 있는 태그 목록을 태그별 템플릿 개수와 함께 조회합니다.
             """)
     @ApiResponse(responseCode = "200", description = "태그 목록 조회 성공",
             content = {@Content(schema = @Schema(implementation = FindAllTagsResponse.class))})
     ResponseEntity<FindAllTagsResponse> getTags(Long memberId);
 
-    @Operation(summary = "템플릿 단건 조회", description = "해당하는 식별자의 템플릿을 조회합니다.")
+    @Operation(summary = "템플릿 단건 조회", description = """
+            해당하는 식별자의 템플릿을 조회합니다. \n
+            응답의 ETag 값을 If-None-Match 헤더로 보내면 변경이 없는 경우 본문 없이 304를 반환합니다.
+            """)
     @ApiResponse(responseCode = "200", description = "템플릿 단건 조회 성공",
             content = {@Content(schema = @Schema(implementation = ExploreTemplatesResponse.class))})
+    @ApiResponse(responseCode = "304", description = "템플릿이 변경되지 않음")
     @ApiErrorResponse(status = HttpStatus.BAD_REQUEST, instance = "/templates/1", errorCases = {
             @ErrorCase(description = "해당하는 id 값인 템플릿이 없는 경우", exampleMessage = "식별자 1에 해당하는 템플릿이 존재하지 않습니다."),
             @ErrorCase(description = "템플릿을 가져올 권한이 없는 경우", exampleMessage = "해당 템플릿에 대한 권한이 없는 유저입니다."),
     })
-    ResponseEntity<FindTemplateResponse> getTemplateById(Long id, MemberDto memberDto);
+    ResponseEntity<FindTemplateResponse> getTemplateById(Long id, MemberDto memberDto, WebRequest webRequest);
 
     @Operation(summary = "템플릿 수정", description = "해당하는 식별자의 템플릿을 수정합니다.")
     @ApiResponse(responseCode = "200", description = "템플릿 수정 성공")
@@ -103,4 +113,16 @@ public interface SpringDocTemplateController {
 
     })
     ResponseEntity<Void> deleteTemplate(Long id, MemberDto memberDto);
+
+    @Operation(summary = "템플릿 일괄 삭제", description = """
+            식별자 목록에 해당하는 템플릿을 한 번에 삭제합니다. \n
+            한 번에 최대 1000개까지 삭제할 수 있으며, 하나라도 삭제할 수 없는 템플릿이 있으면 아무것도 삭제하지 않습니다.
+            """)
+    @ApiResponse(responseCode = "204", description = "템플릿 일괄 삭제 성공")
+    @ApiErrorResponse(status = HttpStatus.BAD_REQUEST, instance = "/templates?ids=1,2", errorCases = {
+            @ErrorCase(description = "삭제할 템플릿 개수가 잘못된 경우", exampleMessage = "삭제할 템플릿은 1개 이상 1000개 이하로 입력해주세요."),
+            @ErrorCase(description = "해당하는 id 값인 템플릿이 없는 경우", exampleMessage = "식별자 1에 해당하는 템플릿이 존재하지 않습니다."),
+            @ErrorCase(description = "템플릿을 삭제할 권한이 없는 경우", exampleMessage = "해당 템플릿에 대한 권한이 없는 유저입니다."),
+    })
+    ResponseEntity<Void> deleteTemplates(List<Long> ids, MemberDto memberDto);
 }
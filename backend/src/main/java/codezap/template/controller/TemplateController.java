@@ -1,10 +1,15 @@
 package codezap.template.controller;
 
 import java.net.URI;
+import java.time.Duration;
 import java.util.List;
 
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.DeleteMapping;
@@ -12,29 +17,38 @@ import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
+import codezap.global.encoding.AcceptEncodings;
 import codezap.global.validation.ValidationSequence;
 import codezap.member.configuration.BasicAuthentication;
 import codezap.member.dto.MemberDto;
 import codezap.template.dto.request.CreateTemplateRequest;
 import codezap.template.dto.request.UpdateTemplateRequest;
-import codezap.template.dto.response.ExploreTemplatesResponse;
 import codezap.template.dto.response.FindAllTagsResponse;
 import codezap.template.dto.response.FindAllTemplatesResponse;
 import codezap.template.dto.response.FindTemplateResponse;
+import codezap.template.service.ExplorePayload;
+import codezap.template.service.ExplorePayloadCache;
 import codezap.template.service.TemplateService;
 
 @RestController
 @RequestMapping("/templates")
 public class TemplateController implements SpringDocTemplateController {
 
+    private static final CacheControl DETAIL_CACHE_CONTROL = CacheControl.noCache().cachePrivate();
+    private static final CacheControl EXPLORE_CACHE_CONTROL = CacheControl.maxAge(Duration.ofSeconds(10)).cachePublic();
+
     private final TemplateService templateService;
+    private final ExplorePayloadCache explorePayloadCache;
 
-    public TemplateController(TemplateService templateService) {
+    public TemplateController(TemplateService templateService, ExplorePayloadCache explorePayloadCache) {
         this.templateService = templateService;
+        this.explorePayloadCache = explorePayloadCache;
     }
 
     @PostMapping
@@ -54,8 +68,13 @@ public class TemplateController implements SpringDocTemplateController {
             @RequestParam String keyword,
             @RequestParam(required = false) Long categoryId,
             @RequestParam(required = false) List<Long> tagIds,
+            @RequestParam(required = false) String cursor,
             @PageableDefault(size = 20, page = 1) Pageable pageable
     ) {
+        if (cursor != null) {
+            return ResponseEntity.ok(templateService.findAllByCursor(
+                    memberId, keyword, categoryId, tagIds, cursor, pageable.getPageSize()));
+        }
         FindAllTemplatesResponse response =
                 templateService.findAllBy(memberId, keyword, categoryId, tagIds, pageable);
         return ResponseEntity.ok(response);
@@ -68,15 +87,48 @@ public class TemplateController implements SpringDocTemplateController {
     }
 
     @GetMapping("/explore")
-    public ResponseEntity<ExploreTemplatesResponse> explore() {
-        return ResponseEntity.ok(templateService.findAll());
+    public ResponseEntity<byte[]> explore(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding,
+            WebRequest webRequest
+    ) {
+        ExplorePayload payload = explorePayloadCache.get(cursor, size, () -> templateService.findAll(cursor, size));
+        boolean gzip = AcceptEncodings.acceptsGzip(acceptEncoding);
+        String eTag = gzip ? payload.gzipETag() : payload.eTag();
+        if (webRequest.checkNotModified(eTag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .cacheControl(EXPLORE_CACHE_CONTROL)
+                    .varyBy(HttpHeaders.ACCEPT_ENCODING)
+                    .build();
+        }
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .eTag(eTag)
+                .cacheControl(EXPLORE_CACHE_CONTROL)
+                .varyBy(HttpHeaders.ACCEPT_ENCODING)
+                .contentType(MediaType.APPLICATION_JSON);
+        if (gzip) {
+            return response.header(HttpHeaders.CONTENT_ENCODING, AcceptEncodings.GZIP)
+                    .body(payload.gzipBody());
+        }
+        return response.body(payload.body());
     }
 
     @GetMapping("/{id}")
     public ResponseEntity<FindTemplateResponse> getTemplateById(@PathVariable Long id,
-            @BasicAuthentication MemberDto memberDto
+            @BasicAuthentication MemberDto memberDto,
+            WebRequest webRequest
     ) {
-        return ResponseEntity.ok(templateService.findByIdAndMember(id, memberDto));
+        String eTag = templateService.findETagByIdAndMember(id, memberDto);
+        if (webRequest.checkNotModified(eTag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .cacheControl(DETAIL_CACHE_CONTROL)
+                    .build();
+        }
+        return ResponseEntity.ok()
+                .eTag(eTag)
+                .cacheControl(DETAIL_CACHE_CONTROL)
+                .body(templateService.findByIdAndMember(id, memberDto));
     }
 
     @PostMapping("/{id}")
@@ -89,6 +141,15 @@ public class TemplateController implements SpringDocTemplateController {
         return ResponseEntity.ok().build();
     }
 
+    @DeleteMapping
+    public ResponseEntity<Void> deleteTemplates(
+            @RequestParam List<Long> ids,
+            @BasicAuthentication MemberDto memberDto
+    ) {
+        templateService.deleteByIds(ids, memberDto);
+        return ResponseEntity.noContent().build();
+    }
+
     @DeleteMapping("/{id}")
     public ResponseEntity<Void> deleteTemplate(@PathVariable Long id, @BasicAuthentication MemberDto memberDto) {
         templateService.deleteById(id, memberDto);
@@ -1,17 +1,19 @@
 package codezap.template.domain;
 
-import java.util.Arrays;
-import java.util.stream.Collectors;
+import java.util.Objects;
 
 import jakarta.persistence.Column;
+import jakarta.persistence.Convert;
 import jakarta.persistence.Entity;
 import jakarta.persistence.FetchType;
-import jakarta.persistence.GeneratedValue;
-import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.Transient;
 
 import codezap.global.auditing.BaseTimeEntity;
+import codezap.global.id.PooledSequence;
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -21,11 +23,8 @@ import lombok.NoArgsConstructor;
 @Getter
 public class Snippet extends BaseTimeEntity {
 
-    private static final String LINE_BREAK = "\n";
-    private static final int THUMBNAIL_SNIPPET_LINE_HEIGHT = 10;
-
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @PooledSequence(name = "snippet_seq")
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY, optional = false)
@@ -34,8 +33,22 @@ public class Snippet extends BaseTimeEntity {
     @Column(nullable = false)
     private String filename;
 
-    @Column(nullable = false, columnDefinition = "TEXT")
-    private String content;
+    @Column(name = "content", columnDefinition = "TEXT")
+    @Getter(AccessLevel.NONE)
+    private String legacyContent;
+
+    @Convert(converter = SnippetContentConverter.class)
+    @Column(name = "encoded_content", columnDefinition = "LONGBLOB")
+    @Getter(AccessLevel.NONE)
+    private SnippetContent legacyEncodedContent;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "body_hash")
+    private SnippetBody body;
+
+    @Transient
+    @Getter(AccessLevel.NONE)
+    private SnippetContent attachedContent;
 
     @Column(nullable = false)
     private Integer ordinal;
@@ -43,19 +56,55 @@ public class Snippet extends BaseTimeEntity {
     public Snippet(Template template, String filename, String content, Integer ordinal) {
         this.template = template;
         this.filename = filename;
-        this.content = content;
+        this.attachedContent = SnippetContent.of(content);
         this.ordinal = ordinal;
     }
 
-    public String getThumbnailContent() {
-        return Arrays.stream(content.split(LINE_BREAK))
-                .limit(THUMBNAIL_SNIPPET_LINE_HEIGHT)
-                .collect(Collectors.joining(LINE_BREAK));
-    }
-
     public void updateSnippet(String filename, String content, Integer ordinal) {
         this.filename = filename;
-        this.content = content;
         this.ordinal = ordinal;
+        if (body != null && body.getHash().equals(SnippetBody.hashOf(content))) {
+            return;
+        }
+        this.body = null;
+        this.attachedContent = SnippetContent.of(content);
+    }
+
+    public void attachBody(SnippetBody body) {
+        this.attachedContent = getSnippetContent();
+        this.body = body;
+        this.legacyContent = null;
+        this.legacyEncodedContent = null;
+    }
+
+    @PrePersist
+    private void validateBodyAttached() {
+        if (body == null) {
+            throw new IllegalStateException("스니펫 내용이 내용 저장소에 연결되지 않았습니다.");
+        }
+    }
+
+    public String getBodyHash() {
+        if (body == null) {
+            return null;
+        }
+        return body.getHash();
+    }
+
+    public SnippetContent getSnippetContent() {
+        if (attachedContent != null) {
+            return attachedContent;
+        }
+        if (body != null) {
+            return body.getContent();
+        }
+        if (legacyEncodedContent != null) {
+            return legacyEncodedContent;
+        }
+        return SnippetContent.of(Objects.requireNonNullElse(legacyContent, ""));
+    }
+
+    public String getContent() {
+        return getSnippetContent().text();
     }
 }
@@ -0,0 +1,42 @@
+package codezap.template.domain;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Convert;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+
+import codezap.global.auditing.BaseTimeEntity;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Entity
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Getter
+public class SnippetBody extends BaseTimeEntity {
+
+    private static final String HASH_ALGORITHM = "SHA-256";
+
+    @Id
+    @Column(length = 64)
+    private String hash;
+
+    @Convert(converter = SnippetContentConverter.class)
+    @Column(nullable = false, columnDefinition = "LONGBLOB")
+    private SnippetContent content;
+
+    public static String hashOf(String text) {
+        try {
+            byte[] digest = MessageDigest.getInstance(HASH_ALGORITHM)
+                    .digest(text.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,122 @@
+package codezap.template.domain;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+public final class SnippetContent {
+
+    static final int COMPRESSION_THRESHOLD_BYTES = 1024;
+    static final byte RAW = 0;
+    static final byte DEFLATE = 1;
+
+    private static final int BUFFER_SIZE = 4096;
+
+    private final byte[] encoded;
+    private String text;
+
+    private SnippetContent(byte[] encoded, String text) {
+        this.encoded = encoded;
+        this.text = text;
+    }
+
+    public static SnippetContent of(String text) {
+        byte[] raw = text.getBytes(StandardCharsets.UTF_8);
+        if (raw.length >= COMPRESSION_THRESHOLD_BYTES) {
+            byte[] deflated = deflate(raw);
+            if (deflated.length < raw.length) {
+                return new SnippetContent(frame(DEFLATE, deflated), text);
+            }
+        }
+        return new SnippetContent(frame(RAW, raw), text);
+    }
+
+    public static SnippetContent fromEncoded(byte[] encoded) {
+        if (encoded.length == 0 || (encoded[0] != RAW && encoded[0] != DEFLATE)) {
+            throw new IllegalStateException("지원하지 않는 스니펫 내용 형식입니다.");
+        }
+        return new SnippetContent(encoded, null);
+    }
+
+    public String text() {
+        if (text == null) {
+            text = new String(decode(), StandardCharsets.UTF_8);
+        }
+        return text;
+    }
+
+    public byte[] encoded() {
+        return encoded;
+    }
+
+    private byte[] decode() {
+        byte[] payload = Arrays.copyOfRange(encoded, 1, encoded.length);
+        if (encoded[0] == DEFLATE) {
+            return inflate(payload);
+        }
+        return payload;
+    }
+
+    private static byte[] frame(byte format, byte[] payload) {
+        byte[] framed = new byte[payload.length + 1];
+        framed[0] = format;
+        System.arraycopy(payload, 0, framed, 1, payload.length);
+        return framed;
+    }
+
+    private static byte[] deflate(byte[] raw) {
+        Deflater deflater = new Deflater(Deflater.DEFAULT_COMPRESSION, true);
+        try {
+            deflater.setInput(raw);
+            deflater.finish();
+            ByteArrayOutputStream outputStream = new ByteArrayOutputStream(raw.length / 2);
+            byte[] buffer = new byte[BUFFER_SIZE];
+            while (!deflater.finished()) {
+                outputStream.write(buffer, 0, deflater.deflate(buffer));
+            }
+            return outputStream.toByteArray();
+        } finally {
+            deflater.end();
+        }
+    }
+
+    private static byte[] inflate(byte[] deflated) {
+        Inflater inflater = new Inflater(true);
+        try {
+            inflater.setInput(deflated);
+            ByteArrayOutputStream outputStream = new ByteArrayOutputStream(deflated.length * 3);
+            byte[] buffer = new byte[BUFFER_SIZE];
+            while (!inflater.finished()) {
+                int length = inflater.inflate(buffer);
+                if (length == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+                    throw new IllegalStateException("압축된 스니펫 내용이 손상되었습니다.");
+                }
+                outputStream.write(buffer, 0, length);
+            }
+            return outputStream.toByteArray();
+        } catch (DataFormatException e) {
+            throw new IllegalStateException("압축된 스니펫 내용이 손상되었습니다.", e);
+        } finally {
+            inflater.end();
+        }
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof SnippetContent that)) {
+            return false;
+        }
+        return Arrays.equals(encoded, that.encoded);
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(encoded);
+    }
+}
@@ -0,0 +1,24 @@
+package codezap.template.domain;
+
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+@Converter
+public class SnippetContentConverter implements AttributeConverter<SnippetContent, byte[]> {
+
+    @Override
+    public byte[] convertToDatabaseColumn(SnippetContent content) {
+        if (content == null) {
+            return null;
+        }
+        return content.encoded();
+    }
+
+    @Override
+    public SnippetContent convertToEntityAttribute(byte[] encoded) {
+        if (encoded == null) {
+            return null;
+        }
+        return SnippetContent.fromEncoded(encoded);
+    }
+}
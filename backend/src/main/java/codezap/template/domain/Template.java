@@ -3,13 +3,14 @@ package codezap.template.domain;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.FetchType;
-import jakarta.persistence.GeneratedValue;
-import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
 
 import codezap.category.domain.Category;
 import codezap.global.auditing.BaseTimeEntity;
+import codezap.global.id.PooledSequence;
 import codezap.member.domain.Member;
 import lombok.AccessLevel;
 import lombok.Getter;
@@ -18,10 +19,18 @@ import lombok.NoArgsConstructor;
 @Entity
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @Getter
+@Table(
+        indexes = {
+                @Index(
+                        name = "member_modified_at_id",
+                        columnList = "member_id, modified_at, id"
+                )
+        }
+)
 public class Template extends BaseTimeEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @PooledSequence(name = "template_seq")
     private Long id;
 
 
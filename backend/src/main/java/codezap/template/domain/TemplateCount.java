@@ -0,0 +1,53 @@
+package codezap.template.domain;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Entity
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Getter
+@Table(
+        uniqueConstraints = {
+                @UniqueConstraint(
+                        name = "member_type_target",
+                        columnNames = {"member_id", "type", "target_id"}
+                )
+        }
+)
+public class TemplateCount {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private Long memberId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private TemplateCountType type;
+
+    @Column(nullable = false)
+    private Long targetId;
+
+    @Column(nullable = false)
+    private Long templateCount;
+
+    public TemplateCount(Long memberId, TemplateCountType type, Long targetId, Long templateCount) {
+        this.memberId = memberId;
+        this.type = type;
+        this.targetId = targetId;
+        this.templateCount = templateCount;
+    }
+}
@@ -0,0 +1,7 @@
+package codezap.template.domain;
+
+public enum TemplateCountType {
+    MEMBER,
+    CATEGORY,
+    TAG
+}
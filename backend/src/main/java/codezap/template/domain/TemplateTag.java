@@ -5,10 +5,13 @@ import java.io.Serializable;
 import jakarta.persistence.Embeddable;
 import jakarta.persistence.EmbeddedId;
 import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.MapsId;
 
+import org.springframework.data.domain.Persistable;
+
 import codezap.global.auditing.BaseTimeEntity;
 import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
@@ -19,7 +22,7 @@ import lombok.NoArgsConstructor;
 @Entity
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @Getter
-public class TemplateTag extends BaseTimeEntity {
+public class TemplateTag extends BaseTimeEntity implements Persistable<Object> {
 
     @Embeddable
     @NoArgsConstructor(access = AccessLevel.PROTECTED)
@@ -34,7 +37,7 @@ public class TemplateTag extends BaseTimeEntity {
     @EmbeddedId
     private TemplateTagId id;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @MapsId("templateId")
     @JoinColumn(name = "template_id")
     private Template template;
@@ -49,4 +52,9 @@ public class TemplateTag extends BaseTimeEntity {
         this.template = template;
         this.tag = tag;
     }
+
+    @Override
+    public boolean isNew() {
+        return getCreatedAt() == null;
+    }
 }
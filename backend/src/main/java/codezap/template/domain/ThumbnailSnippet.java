@@ -1,10 +1,14 @@
 package codezap.template.domain;
 
+import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.OneToOne;
+import jakarta.persistence.Table;
 
 import codezap.global.auditing.BaseTimeEntity;
 import lombok.AccessLevel;
@@ -14,24 +18,67 @@ import lombok.NoArgsConstructor;
 @Entity
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @Getter
+@Table(
+        indexes = {
+                @Index(
+                        name = "modified_at_id",
+                        columnList = "modified_at, id"
+                )
+        }
+)
 public class ThumbnailSnippet extends BaseTimeEntity {
 
+    private static final char LINE_BREAK = '\n';
+    private static final int THUMBNAIL_SNIPPET_LINE_HEIGHT = 10;
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
 
-    @OneToOne(optional = false)
+    @OneToOne(fetch = FetchType.LAZY, optional = false)
     private Template template;
 
-    @OneToOne(optional = false)
+    @OneToOne(fetch = FetchType.LAZY, optional = false)
     private Snippet snippet;
 
+    private String title;
+
+    private String filename;
+
+    @Column(columnDefinition = "TEXT")
+    private String thumbnailContent;
+
     public ThumbnailSnippet(Template template, Snippet snippet) {
         this.template = template;
         this.snippet = snippet;
+        this.title = template.getTitle();
+        this.filename = snippet.getFilename();
+        this.thumbnailContent = extractThumbnailContent(snippet.getContent());
     }
 
     public void updateThumbnailSnippet(Snippet snippet) {
         this.snippet = snippet;
+        this.filename = snippet.getFilename();
+        this.thumbnailContent = extractThumbnailContent(snippet.getContent());
+    }
+
+    public void refresh() {
+        this.title = template.getTitle();
+        this.filename = snippet.getFilename();
+    }
+
+    public static String extractThumbnailContent(String content) {
+        int length = content.length();
+        while (length > 0 && content.charAt(length - 1) == LINE_BREAK) {
+            length--;
+        }
+        int end = -1;
+        for (int line = 0; line < THUMBNAIL_SNIPPET_LINE_HEIGHT; line++) {
+            end = content.indexOf(LINE_BREAK, end + 1);
+            if (end < 0 || end >= length) {
+                return content.substring(0, length);
+            }
+        }
+        return content.substring(0, end);
     }
 }
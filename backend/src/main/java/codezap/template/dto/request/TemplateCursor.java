@@ -0,0 +1,44 @@
+package codezap.template.dto.request;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+import org.springframework.http.HttpStatus;
+
+import codezap.global.exception.CodeZapException;
+import codezap.template.domain.Template;
+
+public record TemplateCursor(LocalDateTime modifiedAt, Long id) {
+
+    private static final String DELIMITER = ",";
+    private static final TemplateCursor FIRST =
+            new TemplateCursor(LocalDateTime.of(9999, 12, 31, 23, 59, 59), Long.MAX_VALUE);
+
+    public static TemplateCursor first() {
+        return FIRST;
+    }
+
+    public static TemplateCursor from(Template template) {
+        return new TemplateCursor(template.getModifiedAt(), template.getId());
+    }
+
+    public static TemplateCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return FIRST;
+        }
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] values = decoded.split(DELIMITER);
+            return new TemplateCursor(LocalDateTime.parse(values[0]), Long.parseLong(values[1]));
+        } catch (IllegalArgumentException | DateTimeParseException | ArrayIndexOutOfBoundsException e) {
+            throw new CodeZapException(HttpStatus.BAD_REQUEST, "잘못된 형식의 커서입니다.");
+        }
+    }
+
+    public String encode() {
+        String value = modifiedAt + DELIMITER + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(value.getBytes(StandardCharsets.UTF_8));
+    }
+}
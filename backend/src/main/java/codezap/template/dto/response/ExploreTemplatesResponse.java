@@ -3,18 +3,20 @@ package codezap.template.dto.response;
 import java.time.LocalDateTime;
 import java.util.List;
 
-import codezap.template.domain.ThumbnailSnippet;
+import codezap.template.repository.ExploreTemplateView;
 import io.swagger.v3.oas.annotations.media.Schema;
 
 public record ExploreTemplatesResponse(
         @Schema(description = "템플릿 목록")
-        List<ItemResponse> templates
+        List<ItemResponse> templates,
+        @Schema(description = "다음 페이지 커서, 마지막 페이지인 경우 null", example = "MjAyNC0xMS0xMVQxMjowMCwxMA")
+        String nextCursor
 ) {
-    public static ExploreTemplatesResponse from(List<ThumbnailSnippet> thumbnailSnippets) {
-        List<ItemResponse> templatesBySummaryResponse = thumbnailSnippets.stream()
+    public static ExploreTemplatesResponse of(List<ExploreTemplateView> exploreTemplateViews, String nextCursor) {
+        List<ItemResponse> templatesBySummaryResponse = exploreTemplateViews.stream()
                 .map(ItemResponse::from)
                 .toList();
-        return new ExploreTemplatesResponse(templatesBySummaryResponse);
+        return new ExploreTemplatesResponse(templatesBySummaryResponse, nextCursor);
     }
 
     public record ItemResponse(
@@ -27,12 +29,12 @@ public record ExploreTemplatesResponse(
             @Schema(description = "템플릿 수정 시간", example = "2024-11-11 12:00", type = "string")
             LocalDateTime modifiedAt
     ) {
-        public static ItemResponse from(ThumbnailSnippet thumbnailSnippet) {
+        public static ItemResponse from(ExploreTemplateView exploreTemplateView) {
             return new ItemResponse(
-                    thumbnailSnippet.getTemplate().getId(),
-                    thumbnailSnippet.getTemplate().getTitle(),
-                    FindThumbnailSnippetResponse.from(thumbnailSnippet.getSnippet()),
-                    thumbnailSnippet.getModifiedAt()
+                    exploreTemplateView.templateId(),
+                    exploreTemplateView.title(),
+                    FindThumbnailSnippetResponse.from(exploreTemplateView),
+                    exploreTemplateView.modifiedAt()
             );
         }
     }
@@ -2,7 +2,31 @@ package codezap.template.dto.response;
 
 import java.util.List;
 
+import codezap.template.repository.TagCount;
+import io.swagger.v3.oas.annotations.media.Schema;
+
 public record FindAllTagsResponse(
-        List<FindTagResponse> tags
+        @Schema(description = "태그 목록")
+        List<ItemResponse> tags
 ) {
+    public static FindAllTagsResponse from(List<TagCount> tagCounts) {
+        return new FindAllTagsResponse(
+                tagCounts.stream()
+                        .map(ItemResponse::from)
+                        .toList()
+        );
+    }
+
+    public record ItemResponse(
+            @Schema(description = "태그 식별자", example = "1")
+            Long id,
+            @Schema(description = "태그 이름", example = "스프링")
+            String name,
+            @Schema(description = "태그가 달린 템플릿 개수", example = "3")
+            Long templateCount
+    ) {
+        public static ItemResponse from(TagCount tagCount) {
+            return new ItemResponse(tagCount.id(), tagCount.name(), tagCount.templateCount());
+        }
+    }
 }
@@ -3,18 +3,33 @@ package codezap.template.dto.response;
 import java.time.LocalDateTime;
 import java.util.List;
 
+import org.springframework.data.domain.Page;
+
 import codezap.template.domain.Tag;
 import codezap.template.domain.Template;
 import io.swagger.v3.oas.annotations.media.Schema;
 
 public record FindAllTemplatesResponse(
-        @Schema(description = "전체 페이지 개수", example = "1")
+        @Schema(description = "전체 페이지 개수, 커서 조회인 경우 -1", example = "1")
         int totalPages,
-        @Schema(description = "총 템플릿 개수", example = "134")
+        @Schema(description = "총 템플릿 개수, 커서 조회인 경우 -1", example = "134")
         long totalElements,
         @Schema(description = "템플릿 목록")
-        List<ItemResponse> templates
+        List<ItemResponse> templates,
+        @Schema(description = "다음 페이지 커서, 커서 조회가 아니거나 마지막 페이지인 경우 null",
+                example = "MjAyNC0xMS0xMVQxMjowMCwxMA")
+        String nextCursor
 ) {
+    private static final int UNKNOWN_COUNT = -1;
+
+    public static FindAllTemplatesResponse of(Page<?> page, List<ItemResponse> templates) {
+        return new FindAllTemplatesResponse(page.getTotalPages(), page.getTotalElements(), templates, null);
+    }
+
+    public static FindAllTemplatesResponse of(List<ItemResponse> templates, String nextCursor) {
+        return new FindAllTemplatesResponse(UNKNOWN_COUNT, UNKNOWN_COUNT, templates, nextCursor);
+    }
+
     public record ItemResponse(
             @Schema(description = "템플릿 식별자", example = "0")
             Long id,
@@ -5,8 +5,7 @@ import java.util.List;
 
 import codezap.category.dto.response.FindCategoryResponse;
 import codezap.template.domain.Snippet;
-import codezap.template.domain.Tag;
-import codezap.template.domain.Template;
+import codezap.template.repository.TemplateDetailView;
 import io.swagger.v3.oas.annotations.media.Schema;
 
 public record FindTemplateResponse(
@@ -33,16 +32,20 @@ public record FindTemplateResponse(
         @Schema(description = "템플릿 수정 시간", example = "2024-11-11 12:00", type = "string")
         LocalDateTime modifiedAt
 ) {
-    public static FindTemplateResponse of(Template template, List<Snippet> snippets, List<Tag> tags) {
+    public static FindTemplateResponse of(List<TemplateDetailView> rows, List<Snippet> snippets) {
+        TemplateDetailView template = rows.get(0);
         return new FindTemplateResponse(
-                template.getId(),
-                template.getTitle(),
-                template.getDescription(),
+                template.id(),
+                template.title(),
+                template.description(),
                 mapToFindAllSnippetByTemplateResponse(snippets),
-                FindCategoryResponse.from(template.getCategory()),
-                mapToFindTagByTemplateResponse(tags),
-                template.getCreatedAt(),
-                template.getModifiedAt()
+                new FindCategoryResponse(template.categoryId(), template.categoryName()),
+                rows.stream()
+                        .filter(row -> row.tagId() != null)
+                        .map(row -> new FindTagResponse(row.tagId(), row.tagName()))
+                        .toList(),
+                template.createdAt(),
+                template.modifiedAt()
         );
     }
 
@@ -53,10 +56,4 @@ public record FindTemplateResponse(
                 .map(FindAllSnippetByTemplateResponse::from)
                 .toList();
     }
-
-    private static List<FindTagResponse> mapToFindTagByTemplateResponse(List<Tag> tags) {
-        return tags.stream()
-                .map(FindTagResponse::from)
-                .toList();
-    }
 }
@@ -1,6 +1,6 @@
 package codezap.template.dto.response;
 
-import codezap.template.domain.Snippet;
+import codezap.template.repository.ExploreTemplateView;
 import io.swagger.v3.oas.annotations.media.Schema;
 
 public record FindThumbnailSnippetResponse(
@@ -10,10 +10,10 @@ public record FindThumbnailSnippetResponse(
         @Schema(description = "목록 조회 시 보여질 코드", example = "public class Main { // ...")
         String thumbnailContent
 ) {
-    public static FindThumbnailSnippetResponse from(Snippet snippet) {
+    public static FindThumbnailSnippetResponse from(ExploreTemplateView exploreTemplateView) {
         return new FindThumbnailSnippetResponse(
-                snippet.getFilename(),
-                snippet.getThumbnailContent()
+                exploreTemplateView.filename(),
+                exploreTemplateView.thumbnailContent()
         );
     }
 }
@@ -0,0 +1,13 @@
+package codezap.template.repository;
+
+import java.time.LocalDateTime;
+
+public record ExploreTemplateView(
+        Long id,
+        Long templateId,
+        String title,
+        String filename,
+        String thumbnailContent,
+        LocalDateTime modifiedAt
+) {
+}
@@ -0,0 +1,11 @@
+package codezap.template.repository;
+
+import java.time.LocalDateTime;
+
+public record MemberTemplatesVersion(
+        Long templateCount,
+        LocalDateTime lastModifiedAt,
+        Long snippetCount,
+        LocalDateTime lastSnippetModifiedAt
+) {
+}
@@ -0,0 +1,51 @@
+package codezap.template.repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import codezap.template.domain.SnippetBody;
+import codezap.template.domain.SnippetContent;
+
+public interface SnippetBodyRepository extends JpaRepository<SnippetBody, String> {
+
+    @Modifying
+    @Transactional
+    @Query("""
+            INSERT INTO SnippetBody (hash, content, createdAt, modifiedAt)
+            VALUES (:hash, :content, :now, :now)
+            ON CONFLICT (hash) DO UPDATE SET modifiedAt = excluded.modifiedAt
+            """)
+    void insertOrTouch(
+            @Param("hash") String hash,
+            @Param("content") SnippetContent content,
+            @Param("now") LocalDateTime now
+    );
+
+    @Query("""
+            SELECT b.hash
+            FROM SnippetBody b
+            WHERE b.modifiedAt < :threshold AND
+            NOT EXISTS (SELECT 1 FROM Snippet s WHERE s.body = b)
+            ORDER BY b.hash
+            """)
+    List<String> findUnreferencedHashes(@Param("threshold") LocalDateTime threshold, Pageable pageable);
+
+    @Modifying
+    @Query("""
+            DELETE FROM SnippetBody b
+            WHERE b.hash IN :hashes AND b.modifiedAt < :threshold AND
+            NOT EXISTS (SELECT 1 FROM Snippet s WHERE s.body = b)
+            """)
+    int deleteUnreferenced(
+            @Param("hashes") Collection<String> hashes,
+            @Param("threshold") LocalDateTime threshold
+    );
+}
@@ -1,13 +1,19 @@
 package codezap.template.repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.http.HttpStatus;
 
 import codezap.global.exception.CodeZapException;
 import codezap.template.domain.Snippet;
+import codezap.template.domain.SnippetBody;
 import codezap.template.domain.Template;
 
 public interface SnippetRepository extends JpaRepository<Snippet, Long> {
@@ -18,9 +24,52 @@ public interface SnippetRepository extends JpaRepository<Snippet, Long> {
 
     List<Snippet> findAllByTemplate(Template template);
 
+    @Query("""
+            SELECT s
+            FROM Snippet s
+            LEFT JOIN FETCH s.body
+            WHERE s.template.id = :templateId
+            ORDER BY s.ordinal
+            """)
+    List<Snippet> findAllByTemplateIdOrderByOrdinal(@Param("templateId") Long templateId);
+
+    @Query("""
+            SELECT s
+            FROM Snippet s
+            LEFT JOIN FETCH s.body
+            WHERE s.template IN :templates
+            """)
+    List<Snippet> findAllByTemplateIn(@Param("templates") List<Template> templates);
+
     Optional<Snippet> findByTemplateAndOrdinal(Template template, int ordinal);
 
     List<Snippet> findAllByTemplateAndOrdinal(Template template, int ordinal);
 
-    void deleteByTemplateId(Long id);
+    List<Snippet> findAllByBodyIsNullOrderById(Pageable pageable);
+
+    @Modifying
+    @Query("""
+            UPDATE Snippet s
+            SET s.body = :body,
+            s.legacyContent = NULL,
+            s.legacyEncodedContent = NULL
+            WHERE s.id = :id AND
+            s.body IS NULL
+            """)
+    int attachBody(@Param("id") Long id, @Param("body") SnippetBody body);
+
+    @Modifying(flushAutomatically = true)
+    @Query("""
+            DELETE FROM Snippet s
+            WHERE s.template = :template AND
+            s.id IN :ids
+            """)
+    void deleteAllByTemplateAndIdIn(@Param("template") Template template, @Param("ids") Collection<Long> ids);
+
+    @Modifying
+    @Query("""
+            DELETE FROM Snippet s
+            WHERE s.template.id IN :templateIds
+            """)
+    void deleteAllByTemplateIdIn(@Param("templateIds") Collection<Long> templateIds);
 }
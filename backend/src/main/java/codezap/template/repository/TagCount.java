@@ -0,0 +1,8 @@
+package codezap.template.repository;
+
+public record TagCount(
+        Long id,
+        String name,
+        Long templateCount
+) {
+}
@@ -1,5 +1,6 @@
 package codezap.template.repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -16,9 +17,9 @@ public interface TagRepository extends JpaRepository<Tag, Long> {
                 () -> new CodeZapException(HttpStatus.NOT_FOUND, "식별자 " + id + "에 해당하는 태그가 존재하지 않습니다."));
     }
 
-    boolean existsByName(String name);
-
     Optional<Tag> findByName(String name);
 
+    List<Tag> findByNameIn(Collection<String> names);
+
     List<Tag> findByIdIn(List<Long> tagIds);
 }
@@ -0,0 +1,7 @@
+package codezap.template.repository;
+
+public record TargetCount(
+        Long targetId,
+        Long count
+) {
+}
@@ -0,0 +1,90 @@
+package codezap.template.repository;
+
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import codezap.template.domain.TemplateCount;
+import codezap.template.domain.TemplateCountType;
+
+public interface TemplateCountRepository extends JpaRepository<TemplateCount, Long> {
+
+    boolean existsByMemberIdAndType(Long memberId, TemplateCountType type);
+
+    @Query("""
+            SELECT c.targetId
+            FROM TemplateCount c
+            WHERE c.memberId = :memberId AND
+            c.type = :type AND
+            c.targetId IN :targetIds
+            """)
+    List<Long> findTargetIdsBy(
+            @Param("memberId") Long memberId,
+            @Param("type") TemplateCountType type,
+            @Param("targetIds") Collection<Long> targetIds
+    );
+
+    @Query("""
+            SELECT new codezap.template.repository.TargetCount(c.targetId, c.templateCount)
+            FROM TemplateCount c
+            WHERE c.memberId = :memberId AND
+            c.type = :type
+            """)
+    List<TargetCount> findAllCountsBy(@Param("memberId") Long memberId, @Param("type") TemplateCountType type);
+
+    @Query("""
+            SELECT new codezap.template.repository.TagCount(t.id, t.name, c.templateCount)
+            FROM TemplateCount c
+            JOIN Tag t ON t.id = c.targetId
+            WHERE c.memberId = :memberId AND
+            c.type = codezap.template.domain.TemplateCountType.TAG AND
+            c.templateCount > 0
+            ORDER BY t.id
+            """)
+    List<TagCount> findAllTagCountsByMemberId(@Param("memberId") Long memberId);
+
+    @Modifying
+    @Query("""
+            INSERT INTO TemplateCount (memberId, type, targetId, templateCount)
+            VALUES (:memberId, :type, :targetId, :templateCount)
+            ON CONFLICT (memberId, type, targetId) DO NOTHING
+            """)
+    void insertIfAbsent(
+            @Param("memberId") Long memberId,
+            @Param("type") TemplateCountType type,
+            @Param("targetId") Long targetId,
+            @Param("templateCount") long templateCount
+    );
+
+    @Modifying
+    @Query("""
+            UPDATE TemplateCount c
+            SET c.templateCount = c.templateCount + :delta
+            WHERE c.memberId = :memberId AND
+            c.type = :type AND
+            c.targetId IN :targetIds
+            """)
+    void increase(
+            @Param("memberId") Long memberId,
+            @Param("type") TemplateCountType type,
+            @Param("targetIds") Collection<Long> targetIds,
+            @Param("delta") long delta
+    );
+
+    @Modifying
+    @Query("""
+            DELETE FROM TemplateCount c
+            WHERE c.memberId = :memberId AND
+            c.type = :type AND
+            c.targetId = :targetId
+            """)
+    void deleteBy(
+            @Param("memberId") Long memberId,
+            @Param("type") TemplateCountType type,
+            @Param("targetId") Long targetId
+    );
+}
@@ -0,0 +1,16 @@
+package codezap.template.repository;
+
+import java.time.LocalDateTime;
+
+public record TemplateDetailView(
+        Long id,
+        String title,
+        String description,
+        Long categoryId,
+        String categoryName,
+        Long tagId,
+        String tagName,
+        LocalDateTime createdAt,
+        LocalDateTime modifiedAt
+) {
+}
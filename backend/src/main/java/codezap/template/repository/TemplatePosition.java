@@ -0,0 +1,9 @@
+package codezap.template.repository;
+
+import java.time.LocalDateTime;
+
+public record TemplatePosition(
+        Long id,
+        LocalDateTime modifiedAt
+) {
+}
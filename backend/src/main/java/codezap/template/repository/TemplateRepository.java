@@ -1,9 +1,14 @@
 package codezap.template.repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -22,80 +27,182 @@ public interface TemplateRepository extends JpaRepository<Template, Long> {
     boolean existsByCategoryId(Long categoryId);
 
     @Query("""
-            SELECT DISTINCT t
-            FROM Template t JOIN Snippet s ON t.id = s.template.id
+            SELECT t.member.id
+            FROM Template t
+            WHERE t.id = :id
+            """)
+    Optional<Long> findMemberIdById(@Param("id") Long id);
+
+    long countByMemberId(Long memberId);
+
+    @Query("""
+            SELECT new codezap.template.repository.TargetCount(t.category.id, COUNT(t))
+            FROM Template t
+            WHERE t.member.id = :memberId
+            GROUP BY t.category.id
+            """)
+    List<TargetCount> findCategoryCountsByMemberId(@Param("memberId") Long memberId);
+
+    @Query("""
+            SELECT new codezap.template.repository.TargetCount(t.category.id, COUNT(t))
+            FROM Template t
+            WHERE t.id IN :ids
+            GROUP BY t.category.id
+            """)
+    List<TargetCount> findCategoryCountsByIdIn(@Param("ids") Collection<Long> ids);
+
+    @Query("""
+            SELECT t.id
+            FROM Template t
             WHERE t.member.id = :memberId AND
-            (
-                t.title LIKE :keyword
-                OR s.filename LIKE :keyword
-                OR s.content LIKE :keyword
-                OR t.description LIKE :keyword
-            )
+            t.id IN :ids
+            """)
+    List<Long> findIdsByMemberIdAndIdIn(@Param("memberId") Long memberId, @Param("ids") Collection<Long> ids);
+
+    @Query("""
+            SELECT t
+            FROM Template t
+            WHERE t.member.id = :memberId
             """)
     Page<Template> searchBy(
             @Param("memberId") Long memberId,
-            @Param("keyword") String keyword,
             Pageable pageable
     );
 
     @Query("""
-            SELECT DISTINCT t
-            FROM Template t JOIN Snippet s ON t.id = s.template.id
+            SELECT t
+            FROM Template t
             WHERE t.member.id = :memberId AND
-            t.id in :templateIds AND
-            (
-                t.title LIKE :keyword
-                OR s.filename LIKE :keyword
-                OR s.content LIKE :keyword
-                OR t.description LIKE :keyword
-            )
+            t.category.id = :categoryId
             """)
     Page<Template> searchBy(
             @Param("memberId") Long memberId,
-            @Param("keyword") String keyword,
-            @Param("templateIds") List<Long> templateIds,
+            @Param("categoryId") Long categoryId,
+            Pageable pageable
+    );
+
+    @Query("""
+            SELECT t
+            FROM Template t
+            WHERE t.member.id = :memberId AND
+            (t.modifiedAt < :modifiedAt OR (t.modifiedAt = :modifiedAt AND t.id < :id))
+            ORDER BY t.modifiedAt DESC, t.id DESC
+            """)
+    Slice<Template> searchAfter(
+            @Param("memberId") Long memberId,
+            @Param("modifiedAt") LocalDateTime modifiedAt,
+            @Param("id") Long id,
             Pageable pageable
     );
 
     @Query("""
-            SELECT DISTINCT t
-            FROM Template t JOIN Snippet s ON t.id = s.template.id
+            SELECT t
+            FROM Template t
             WHERE t.member.id = :memberId AND
             t.category.id = :categoryId AND
-            (
-                t.title LIKE :keyword
-                OR s.filename LIKE :keyword
-                OR s.content LIKE :keyword
-                OR t.description LIKE :keyword
-            )
+            (t.modifiedAt < :modifiedAt OR (t.modifiedAt = :modifiedAt AND t.id < :id))
+            ORDER BY t.modifiedAt DESC, t.id DESC
             """)
-    Page<Template> searchBy(
+    Slice<Template> searchAfter(
+            @Param("memberId") Long memberId,
+            @Param("categoryId") Long categoryId,
+            @Param("modifiedAt") LocalDateTime modifiedAt,
+            @Param("id") Long id,
+            Pageable pageable
+    );
+
+    @Query("""
+            SELECT t.id
+            FROM Template t
+            WHERE t.member.id = :memberId
+            """)
+    List<Long> findIdsByMemberId(@Param("memberId") Long memberId, Sort sort);
+
+    @Query("""
+            SELECT t.id
+            FROM Template t
+            WHERE t.member.id = :memberId AND
+            t.category.id = :categoryId
+            """)
+    List<Long> findIdsByMemberIdAndCategoryId(
             @Param("memberId") Long memberId,
-            @Param("keyword") String keyword,
             @Param("categoryId") Long categoryId,
+            Sort sort
+    );
+
+    @Query("""
+            SELECT new codezap.template.repository.TemplatePosition(t.id, t.modifiedAt)
+            FROM Template t
+            WHERE t.member.id = :memberId AND
+            (t.modifiedAt < :modifiedAt OR (t.modifiedAt = :modifiedAt AND t.id < :id))
+            ORDER BY t.modifiedAt DESC, t.id DESC
+            """)
+    List<TemplatePosition> findPositionsAfter(
+            @Param("memberId") Long memberId,
+            @Param("modifiedAt") LocalDateTime modifiedAt,
+            @Param("id") Long id,
             Pageable pageable
     );
 
     @Query("""
-            SELECT DISTINCT t
-            FROM Template t JOIN Snippet s ON t.id = s.template.id
+            SELECT new codezap.template.repository.TemplatePosition(t.id, t.modifiedAt)
+            FROM Template t
             WHERE t.member.id = :memberId AND
             t.category.id = :categoryId AND
-            t.id in :templateIds AND
-            (
-                t.title LIKE :keyword
-                OR s.filename LIKE :keyword
-                OR s.content LIKE :keyword
-                OR t.description LIKE :keyword
-            )
+            (t.modifiedAt < :modifiedAt OR (t.modifiedAt = :modifiedAt AND t.id < :id))
+            ORDER BY t.modifiedAt DESC, t.id DESC
             """)
-    Page<Template> searchBy(
+    List<TemplatePosition> findPositionsAfter(
             @Param("memberId") Long memberId,
-            @Param("keyword") String keyword,
             @Param("categoryId") Long categoryId,
-            @Param("templateIds") List<Long> templateIds,
+            @Param("modifiedAt") LocalDateTime modifiedAt,
+            @Param("id") Long id,
             Pageable pageable
     );
 
+    @Query("""
+            SELECT new codezap.template.repository.MemberTemplatesVersion(
+                COUNT(t),
+                MAX(t.modifiedAt),
+                (SELECT COUNT(s) FROM Snippet s WHERE s.template.member.id = :memberId),
+                (SELECT MAX(s.modifiedAt) FROM Snippet s WHERE s.template.member.id = :memberId)
+            )
+            FROM Template t
+            WHERE t.member.id = :memberId
+            """)
+    MemberTemplatesVersion findIndexVersionByMemberId(@Param("memberId") Long memberId);
+
+    @Query("""
+            SELECT new codezap.template.repository.TemplateDetailView(
+                t.id, t.title, t.description, c.id, c.name, tg.id, tg.name, t.createdAt, t.modifiedAt
+            )
+            FROM Template t
+            JOIN t.category c
+            LEFT JOIN TemplateTag tt ON tt.template = t
+            LEFT JOIN tt.tag tg
+            WHERE t.id = :id AND
+            t.member.id = :memberId
+            ORDER BY tg.id
+            """)
+    List<TemplateDetailView> findDetailByIdAndMemberId(@Param("id") Long id, @Param("memberId") Long memberId);
+
+    @Query("""
+            SELECT new codezap.template.repository.TemplateVersion(
+                t.id,
+                t.modifiedAt,
+                c.id,
+                c.modifiedAt,
+                (SELECT COUNT(s) FROM Snippet s WHERE s.template = t),
+                (SELECT MAX(s.modifiedAt) FROM Snippet s WHERE s.template = t),
+                (SELECT COUNT(tt) FROM TemplateTag tt WHERE tt.template = t),
+                (SELECT MAX(tt.createdAt) FROM TemplateTag tt WHERE tt.template = t)
+            )
+            FROM Template t
+            JOIN t.category c
+            WHERE t.id = :id AND
+            t.member.id = :memberId
+            """)
+    Optional<TemplateVersion> findVersionByIdAndMemberId(@Param("id") Long id, @Param("memberId") Long memberId);
+
     List<Template> findByMemberId(Long memberId);
 }
@@ -0,0 +1,7 @@
+package codezap.template.repository;
+
+public record TemplateTagIds(
+        Long templateId,
+        Long tagId
+) {
+}
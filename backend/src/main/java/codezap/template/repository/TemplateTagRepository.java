@@ -1,9 +1,12 @@
 package codezap.template.repository;
 
+import java.util.Collection;
 import java.util.List;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import codezap.template.domain.Template;
 import codezap.template.domain.TemplateTag;
@@ -12,16 +15,49 @@ public interface TemplateTagRepository extends JpaRepository<TemplateTag, Long>
 
     List<TemplateTag> findAllByTemplate(Template template);
 
-    void deleteAllByTemplateId(Long id);
+    @Modifying
+    @Query("""
+            DELETE FROM TemplateTag tt
+            WHERE tt.id.templateId IN :templateIds
+            """)
+    void deleteAllByTemplateIdIn(@Param("templateIds") Collection<Long> templateIds);
+
+    @Query("""
+            SELECT tt
+            FROM TemplateTag tt
+            JOIN FETCH tt.tag
+            WHERE tt.id.templateId IN :templateIds
+            ORDER BY tt.id.templateId, tt.id.tagId
+            """)
+    List<TemplateTag> findAllWithTagByTemplateIdIn(@Param("templateIds") Collection<Long> templateIds);
+
+    @Query("""
+            SELECT new codezap.template.repository.TargetCount(tt.id.tagId, COUNT(tt))
+            FROM TemplateTag tt
+            WHERE tt.template.member.id = :memberId
+            GROUP BY tt.id.tagId
+            """)
+    List<TargetCount> findTagCountsByMemberId(@Param("memberId") Long memberId);
+
+    @Query("""
+            SELECT new codezap.template.repository.TargetCount(tt.id.tagId, COUNT(tt))
+            FROM TemplateTag tt
+            WHERE tt.id.templateId IN :templateIds
+            GROUP BY tt.id.tagId
+            """)
+    List<TargetCount> findTagCountsByTemplateIdIn(@Param("templateIds") Collection<Long> templateIds);
+
+    @Query("""
+            SELECT new codezap.template.repository.MemberTagsVersion(COUNT(tt), MAX(tt.createdAt))
+            FROM TemplateTag tt
+            WHERE tt.template.member.id = :memberId
+            """)
+    MemberTagsVersion findIndexVersionByMemberId(@Param("memberId") Long memberId);
 
-    List<TemplateTag> findByTemplateIn(List<Template> templates);
-  
     @Query("""
-            SELECT DISTINCT tt.id.templateId
+            SELECT new codezap.template.repository.TemplateTagIds(tt.id.templateId, tt.id.tagId)
             FROM TemplateTag tt
-            WHERE tt.id.tagId IN :tagIds
-            GROUP BY tt.id.templateId
-            HAVING COUNT(DISTINCT tt.id.tagId) = :tagSize
+            WHERE tt.template.member.id = :memberId
             """)
-    List<Long> findAllTemplateIdInTagIds(List<Long> tagIds, long tagSize);
+    List<TemplateTagIds> findAllIdsByMemberId(@Param("memberId") Long memberId);
 }
@@ -0,0 +1,15 @@
+package codezap.template.repository;
+
+import java.time.LocalDateTime;
+
+public record TemplateVersion(
+        Long id,
+        LocalDateTime modifiedAt,
+        Long categoryId,
+        LocalDateTime categoryModifiedAt,
+        Long snippetCount,
+        LocalDateTime snippetModifiedAt,
+        Long tagCount,
+        LocalDateTime tagCreatedAt
+) {
+}
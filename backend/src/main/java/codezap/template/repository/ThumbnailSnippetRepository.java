@@ -1,8 +1,16 @@
 package codezap.template.repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import codezap.template.domain.Template;
 import codezap.template.domain.ThumbnailSnippet;
@@ -10,5 +18,53 @@ import codezap.template.domain.ThumbnailSnippet;
 public interface ThumbnailSnippetRepository extends JpaRepository<ThumbnailSnippet, Long> {
     Optional<ThumbnailSnippet> findByTemplate(Template template);
 
-    void deleteByTemplateId(Long id);
+    @Modifying(flushAutomatically = true)
+    @Query("""
+            DELETE FROM ThumbnailSnippet ts
+            WHERE ts.template.id IN :templateIds
+            """)
+    void deleteAllByTemplateIdIn(@Param("templateIds") Collection<Long> templateIds);
+
+    @Query("""
+            SELECT new codezap.template.repository.ExploreTemplateView(
+                ts.id, ts.template.id, ts.title, ts.filename, ts.thumbnailContent, ts.modifiedAt
+            )
+            FROM ThumbnailSnippet ts
+            WHERE ts.modifiedAt < :modifiedAt OR (ts.modifiedAt = :modifiedAt AND ts.id < :id)
+            ORDER BY ts.modifiedAt DESC, ts.id DESC
+            """)
+    Slice<ExploreTemplateView> findExploreViewsAfter(
+            @Param("modifiedAt") LocalDateTime modifiedAt,
+            @Param("id") Long id,
+            Pageable pageable
+    );
+
+    @Query("""
+            SELECT new codezap.template.repository.ThumbnailSnippetSource(
+                ts.id, t.id, t.title, s.filename, b.content
+            )
+            FROM ThumbnailSnippet ts
+            JOIN ts.template t
+            JOIN ts.snippet s
+            JOIN s.body b
+            WHERE ts.thumbnailContent IS NULL
+            ORDER BY ts.id
+            """)
+    List<ThumbnailSnippetSource> findSourcesByThumbnailContentIsNull(Pageable pageable);
+
+    @Modifying
+    @Query("""
+            UPDATE ThumbnailSnippet ts
+            SET ts.title = :title,
+            ts.filename = :filename,
+            ts.thumbnailContent = :thumbnailContent
+            WHERE ts.id = :id AND
+            ts.thumbnailContent IS NULL
+            """)
+    int fill(
+            @Param("id") Long id,
+            @Param("title") String title,
+            @Param("filename") String filename,
+            @Param("thumbnailContent") String thumbnailContent
+    );
 }
@@ -0,0 +1,12 @@
+package codezap.template.repository;
+
+import codezap.template.domain.SnippetContent;
+
+public record ThumbnailSnippetSource(
+        Long id,
+        Long templateId,
+        String title,
+        String filename,
+        SnippetContent content
+) {
+}
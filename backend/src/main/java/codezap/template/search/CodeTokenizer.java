@@ -0,0 +1,74 @@
+package codezap.template.search;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+public class CodeTokenizer implements Tokenizer {
+
+    private static final char UNDERSCORE = '_';
+    private static final char DOLLAR = '$';
+
+    @Override
+    public List<String> tokenize(String text) {
+        List<String> tokens = new ArrayList<>();
+        int wordStart = -1;
+        for (int index = 0; index <= text.length(); index++) {
+            boolean identifierPart = index < text.length() && isIdentifierPart(text.charAt(index));
+            if (identifierPart && wordStart < 0) {
+                wordStart = index;
+            }
+            if (!identifierPart && wordStart >= 0) {
+                addIdentifier(text.substring(wordStart, index), tokens);
+                wordStart = -1;
+            }
+        }
+        return tokens;
+    }
+
+    private boolean isIdentifierPart(char character) {
+        return (Character.isLetterOrDigit(character) || isSeparator(character))
+                && !KoreanTokenizer.isHangul(character);
+    }
+
+    private void addIdentifier(String identifier, List<String> tokens) {
+        tokens.add(identifier.toLowerCase(Locale.ROOT));
+        int partStart = 0;
+        for (int index = 1; index < identifier.length(); index++) {
+            if (isBoundary(identifier, index)) {
+                addPart(identifier.substring(partStart, index), tokens);
+                partStart = index;
+            }
+        }
+        if (partStart > 0) {
+            addPart(identifier.substring(partStart), tokens);
+        }
+    }
+
+    private boolean isBoundary(String identifier, int index) {
+        char previous = identifier.charAt(index - 1);
+        char current = identifier.charAt(index);
+        if (isSeparator(previous) || isSeparator(current)) {
+            return true;
+        }
+        if (Character.isDigit(previous) != Character.isDigit(current)) {
+            return true;
+        }
+        if (Character.isLowerCase(previous) && Character.isUpperCase(current)) {
+            return true;
+        }
+        return Character.isUpperCase(previous) && Character.isUpperCase(current)
+                && index + 1 < identifier.length() && Character.isLowerCase(identifier.charAt(index + 1));
+    }
+
+    private void addPart(String part, List<String> tokens) {
+        if (part.length() == 1 && isSeparator(part.charAt(0))) {
+            return;
+        }
+        tokens.add(part.toLowerCase(Locale.ROOT));
+    }
+
+    private boolean isSeparator(char character) {
+        return character == UNDERSCORE || character == DOLLAR;
+    }
+}
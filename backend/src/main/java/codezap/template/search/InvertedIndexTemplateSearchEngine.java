@@ -0,0 +1,142 @@
+package codezap.template.search;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import codezap.global.invalidation.EntityType;
+import codezap.global.invalidation.InvalidationEvent;
+import codezap.global.invalidation.InvalidationListener;
+import codezap.template.domain.Snippet;
+import codezap.template.domain.Template;
+import codezap.template.repository.MemberTemplatesVersion;
+import codezap.template.repository.SnippetRepository;
+import codezap.template.repository.TemplateRepository;
+
+@Component
+public class InvertedIndexTemplateSearchEngine implements TemplateSearchEngine, InvalidationListener {
+
+    private final List<Tokenizer> tokenizers = List.of(new CodeTokenizer(), new KoreanTokenizer());
+    private final MemberIndexCache<MemberTemplatesVersion, MemberSearchIndex> indexes;
+
+    private final TemplateRepository templateRepository;
+    private final SnippetRepository snippetRepository;
+
+    public InvertedIndexTemplateSearchEngine(
+            TemplateRepository templateRepository,
+            SnippetRepository snippetRepository,
+            @Value("${codezap.search.index.maximum-weight:5000000}") long maximumWeight,
+            @Value("${codezap.search.index.expire-after-access:30m}") Duration expireAfterAccess,
+            @Value("${codezap.search.index.revalidate-interval:1s}") Duration revalidateInterval
+    ) {
+        this.templateRepository = templateRepository;
+        this.snippetRepository = snippetRepository;
+        this.indexes = new MemberIndexCache<>(
+                templateRepository::findIndexVersionByMemberId,
+                this::buildIndex,
+                maximumWeight,
+                expireAfterAccess,
+                revalidateInterval
+        );
+    }
+
+    @Override
+    public void index(Template template, List<Snippet> snippets) {
+        Long memberId = template.getMember().getId();
+        Long templateId = template.getId();
+        TemplateTerms terms = extractTerms(template, snippets);
+        indexes.updateAfterCommit(memberId, index -> index.put(templateId, terms));
+    }
+
+    @Override
+    public void update(Template template, List<Snippet> snippets, List<Snippet> editedSnippets) {
+        Long memberId = template.getMember().getId();
+        Long templateId = template.getId();
+        Set<String> metadataTerms = extractMetadataTerms(template, snippets);
+        Map<Long, Set<String>> editedContentTerms = extractContentTerms(editedSnippets);
+        Set<Long> snippetIds = snippets.stream()
+                .map(Snippet::getId)
+                .collect(Collectors.toSet());
+        indexes.updateOrEvictAfterCommit(
+                memberId, index -> index.update(templateId, metadataTerms, editedContentTerms, snippetIds));
+    }
+
+    @Override
+    public void remove(Long memberId, Collection<Long> templateIds) {
+        indexes.updateAfterCommit(memberId, index -> templateIds.forEach(index::remove));
+    }
+
+    @Override
+    public Set<Long> search(Long memberId, String keyword) {
+        Set<String> queryTerms = tokenize(keyword);
+        if (queryTerms.isEmpty()) {
+            return Set.of();
+        }
+        return indexes.load(memberId).search(queryTerms);
+    }
+
+    @Override
+    public EntityType entityType() {
+        return EntityType.TEMPLATE;
+    }
+
+    @Override
+    public boolean acceptsLocalEvents() {
+        return false;
+    }
+
+    @Override
+    public void invalidate(InvalidationEvent event) {
+        Long templateId = event.entityId();
+        indexes.evictContaining(templateId);
+        templateRepository.findMemberIdById(templateId).ifPresent(indexes::evict);
+    }
+
+    private MemberSearchIndex buildIndex(Long memberId, MemberTemplatesVersion version) {
+        MemberSearchIndex index = new MemberSearchIndex(version);
+        List<Template> templates = templateRepository.findByMemberId(memberId);
+        if (templates.isEmpty()) {
+            return index;
+        }
+        Map<Long, List<Snippet>> snippetsByTemplateId = snippetRepository.findAllByTemplateIn(templates).stream()
+                .collect(Collectors.groupingBy(snippet -> snippet.getTemplate().getId()));
+        templates.forEach(template -> index.put(
+                template.getId(),
+                extractTerms(template, snippetsByTemplateId.getOrDefault(template.getId(), List.of()))
+        ));
+        return index;
+    }
+
+    private TemplateTerms extractTerms(Template template, List<Snippet> snippets) {
+        return new TemplateTerms(extractMetadataTerms(template, snippets), extractContentTerms(snippets));
+    }
+
+    private Set<String> extractMetadataTerms(Template template, List<Snippet> snippets) {
+        Set<String> terms = new HashSet<>();
+        terms.addAll(tokenize(template.getTitle()));
+        terms.addAll(tokenize(template.getDescription()));
+        snippets.forEach(snippet -> terms.addAll(tokenize(snippet.getFilename())));
+        return terms;
+    }
+
+    private Map<Long, Set<String>> extractContentTerms(List<Snippet> snippets) {
+        return snippets.stream()
+                .collect(Collectors.toMap(Snippet::getId, snippet -> tokenize(snippet.getContent())));
+    }
+
+    private Set<String> tokenize(String text) {
+        Set<String> terms = new HashSet<>();
+        if (text == null) {
+            return terms;
+        }
+        tokenizers.forEach(tokenizer -> terms.addAll(tokenizer.tokenize(text)));
+        return terms;
+    }
+}
@@ -0,0 +1,36 @@
+package codezap.template.search;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class KoreanTokenizer implements Tokenizer {
+
+    private static final int MAX_TERM_LENGTH = 16;
+
+    @Override
+    public List<String> tokenize(String text) {
+        List<String> tokens = new ArrayList<>();
+        int wordStart = -1;
+        for (int index = 0; index <= text.length(); index++) {
+            boolean hangul = index < text.length() && isHangul(text.charAt(index));
+            if (hangul && wordStart < 0) {
+                wordStart = index;
+            }
+            if (!hangul && wordStart >= 0) {
+                addSuffixes(text.substring(wordStart, index), tokens);
+                wordStart = -1;
+            }
+        }
+        return tokens;
+    }
+
+    private void addSuffixes(String word, List<String> tokens) {
+        for (int start = 0; start < word.length(); start++) {
+            tokens.add(word.substring(start, Math.min(word.length(), start + MAX_TERM_LENGTH)));
+        }
+    }
+
+    static boolean isHangul(char character) {
+        return Character.UnicodeScript.of(character) == Character.UnicodeScript.HANGUL;
+    }
+}
@@ -0,0 +1,29 @@
+package codezap.template.search;
+
+abstract class MemberIndex<V> {
+
+    private volatile V version;
+    private volatile long verifiedAtNanos;
+
+    MemberIndex(V version) {
+        this.version = version;
+        this.verifiedAtNanos = System.nanoTime();
+    }
+
+    boolean isVersionOf(V version) {
+        return this.version.equals(version);
+    }
+
+    void updateVersion(V version) {
+        this.version = version;
+        this.verifiedAtNanos = System.nanoTime();
+    }
+
+    boolean isVerifiedWithin(long intervalNanos) {
+        return System.nanoTime() - verifiedAtNanos < intervalNanos;
+    }
+
+    abstract int weight();
+
+    abstract boolean contains(Long templateId);
+}
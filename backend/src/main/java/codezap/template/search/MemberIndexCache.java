@@ -0,0 +1,104 @@
+package codezap.template.search;
+
+import java.time.Duration;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+class MemberIndexCache<V, I extends MemberIndex<V>> {
+
+    private final Cache<Long, I> indexes;
+    private final Function<Long, V> versionLoader;
+    private final BiFunction<Long, V, I> indexBuilder;
+    private final long revalidateIntervalNanos;
+
+    MemberIndexCache(
+            Function<Long, V> versionLoader,
+            BiFunction<Long, V, I> indexBuilder,
+            long maximumWeight,
+            Duration expireAfterAccess,
+            Duration revalidateInterval
+    ) {
+        this.indexes = Caffeine.newBuilder()
+                .maximumWeight(maximumWeight)
+                .weigher((Long memberId, I index) -> Math.max(1, index.weight()))
+                .expireAfterAccess(expireAfterAccess)
+                .build();
+        this.versionLoader = versionLoader;
+        this.indexBuilder = indexBuilder;
+        this.revalidateIntervalNanos = revalidateInterval.toNanos();
+    }
+
+    I load(Long memberId) {
+        I index = indexes.getIfPresent(memberId);
+        if (index != null && index.isVerifiedWithin(revalidateIntervalNanos)) {
+            return index;
+        }
+        V version = versionLoader.apply(memberId);
+        if (index != null && index.isVersionOf(version)) {
+            index.updateVersion(version);
+            return index;
+        }
+        I rebuilt = indexBuilder.apply(memberId, version);
+        indexes.put(memberId, rebuilt);
+        return rebuilt;
+    }
+
+    void updateAfterCommit(Long memberId, Consumer<I> update) {
+        updateOrEvictAfterCommit(memberId, index -> {
+            update.accept(index);
+            return true;
+        });
+    }
+
+    void updateOrEvictAfterCommit(Long memberId, Predicate<I> update) {
+        if (!isResident(memberId)) {
+            evictAfterCommit(memberId);
+            return;
+        }
+        V version = versionLoader.apply(memberId);
+        runAfterCommit(() -> indexes.asMap().computeIfPresent(memberId, (id, index) -> {
+            if (!update.test(index)) {
+                return null;
+            }
+            index.updateVersion(version);
+            return index;
+        }));
+    }
+
+    private boolean isResident(Long memberId) {
+        return indexes.getIfPresent(memberId) != null;
+    }
+
+    void evict(Long memberId) {
+        indexes.invalidate(memberId);
+    }
+
+    void evictContaining(Long templateId) {
+        indexes.asMap().values().removeIf(index -> index.contains(templateId));
+    }
+
+    private void evictAfterCommit(Long memberId) {
+        runAfterCommit(() -> indexes.invalidate(memberId));
+    }
+
+    private void runAfterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
@@ -0,0 +1,98 @@
+package codezap.template.search;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+
+import codezap.template.repository.MemberTemplatesVersion;
+
+class MemberSearchIndex extends MemberIndex<MemberTemplatesVersion> {
+
+    private final NavigableMap<String, Set<Long>> postings = new TreeMap<>();
+    private final Map<Long, TemplateTerms> termsByTemplateId = new HashMap<>();
+    private int postingCount;
+
+    MemberSearchIndex(MemberTemplatesVersion version) {
+        super(version);
+    }
+
+    @Override
+    synchronized int weight() {
+        return postingCount;
+    }
+
+    @Override
+    synchronized boolean contains(Long templateId) {
+        return termsByTemplateId.containsKey(templateId);
+    }
+
+    synchronized void put(Long templateId, TemplateTerms terms) {
+        remove(templateId);
+        termsByTemplateId.put(templateId, terms);
+        Set<String> allTerms = terms.all();
+        allTerms.forEach(term -> postings.computeIfAbsent(term, key -> new HashSet<>()).add(templateId));
+        postingCount += allTerms.size();
+    }
+
+    synchronized boolean update(
+            Long templateId,
+            Set<String> metadataTerms,
+            Map<Long, Set<String>> editedContentTerms,
+            Set<Long> snippetIds
+    ) {
+        TemplateTerms terms = termsByTemplateId.get(templateId);
+        if (terms == null || !terms.covers(snippetIds, editedContentTerms)) {
+            return false;
+        }
+        put(templateId, terms.update(metadataTerms, editedContentTerms, snippetIds));
+        return true;
+    }
+
+    synchronized void remove(Long templateId) {
+        TemplateTerms terms = termsByTemplateId.remove(templateId);
+        if (terms == null) {
+            return;
+        }
+        Set<String> allTerms = terms.all();
+        postingCount -= allTerms.size();
+        for (String term : allTerms) {
+            Set<Long> templateIds = postings.get(term);
+            templateIds.remove(templateId);
+            if (templateIds.isEmpty()) {
+                postings.remove(term);
+            }
+        }
+    }
+
+    synchronized Set<Long> search(Collection<String> queryTerms) {
+        Set<Long> result = null;
+        for (String queryTerm : queryTerms) {
+            Set<Long> matched = findByPrefix(queryTerm);
+            if (result == null) {
+                result = matched;
+            } else {
+                result.retainAll(matched);
+            }
+            if (result.isEmpty()) {
+                break;
+            }
+        }
+        return result == null ? Set.of() : result;
+    }
+
+    private Set<Long> findByPrefix(String prefix) {
+        Set<Long> matched = new HashSet<>();
+        for (Entry<String, Set<Long>> posting : postings.tailMap(prefix, true).entrySet()) {
+            if (!posting.getKey().startsWith(prefix)) {
+                break;
+            }
+            matched.addAll(posting.getValue());
+        }
+        return matched;
+    }
+}
@@ -0,0 +1,78 @@
+package codezap.template.search;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.roaringbitmap.longlong.Roaring64Bitmap;
+
+import codezap.template.repository.MemberTagsVersion;
+
+class MemberTagIndex extends MemberIndex<MemberTagsVersion> {
+
+    private final Map<Long, Roaring64Bitmap> templateIdsByTagId = new HashMap<>();
+    private final Map<Long, Set<Long>> tagIdsByTemplateId = new HashMap<>();
+    private int pairCount;
+
+    MemberTagIndex(MemberTagsVersion version) {
+        super(version);
+    }
+
+    @Override
+    synchronized int weight() {
+        return pairCount;
+    }
+
+    @Override
+    synchronized boolean contains(Long templateId) {
+        return tagIdsByTemplateId.containsKey(templateId);
+    }
+
+    synchronized void put(Long templateId, Set<Long> tagIds) {
+        remove(templateId);
+        if (tagIds.isEmpty()) {
+            return;
+        }
+        tagIdsByTemplateId.put(templateId, tagIds);
+        pairCount += tagIds.size();
+        tagIds.forEach(tagId -> templateIdsByTagId.computeIfAbsent(tagId, key -> new Roaring64Bitmap())
+                .addLong(templateId));
+    }
+
+    synchronized void remove(Long templateId) {
+        Set<Long> tagIds = tagIdsByTemplateId.remove(templateId);
+        if (tagIds == null) {
+            return;
+        }
+        pairCount -= tagIds.size();
+        for (Long tagId : tagIds) {
+            Roaring64Bitmap templateIds = templateIdsByTagId.get(tagId);
+            templateIds.removeLong(templateId);
+            if (templateIds.isEmpty()) {
+                templateIdsByTagId.remove(tagId);
+            }
+        }
+    }
+
+    synchronized List<Long> findTemplateIdsByAllTags(Collection<Long> tagIds) {
+        Roaring64Bitmap result = null;
+        for (Long tagId : tagIds) {
+            Roaring64Bitmap templateIds = templateIdsByTagId.get(tagId);
+            if (templateIds == null) {
+                return List.of();
+            }
+            if (result == null) {
+                result = templateIds.clone();
+            } else {
+                result.and(templateIds);
+            }
+        }
+        if (result == null) {
+            return List.of();
+        }
+        return Arrays.stream(result.toArray()).boxed().toList();
+    }
+}
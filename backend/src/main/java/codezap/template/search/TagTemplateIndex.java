@@ -0,0 +1,92 @@
+package codezap.template.search;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import codezap.global.invalidation.EntityType;
+import codezap.global.invalidation.InvalidationEvent;
+import codezap.global.invalidation.InvalidationListener;
+import codezap.template.domain.Tag;
+import codezap.template.domain.Template;
+import codezap.template.repository.MemberTagsVersion;
+import codezap.template.repository.TemplateRepository;
+import codezap.template.repository.TemplateTagIds;
+import codezap.template.repository.TemplateTagRepository;
+
+@Component
+public class TagTemplateIndex implements InvalidationListener {
+
+    private final MemberIndexCache<MemberTagsVersion, MemberTagIndex> indexes;
+
+    private final TemplateTagRepository templateTagRepository;
+    private final TemplateRepository templateRepository;
+
+    public TagTemplateIndex(
+            TemplateTagRepository templateTagRepository,
+            TemplateRepository templateRepository,
+            @Value("${codezap.tag.index.maximum-weight:5000000}") long maximumWeight,
+            @Value("${codezap.tag.index.expire-after-access:30m}") Duration expireAfterAccess,
+            @Value("${codezap.tag.index.revalidate-interval:1s}") Duration revalidateInterval
+    ) {
+        this.templateTagRepository = templateTagRepository;
+        this.templateRepository = templateRepository;
+        this.indexes = new MemberIndexCache<>(
+                templateTagRepository::findIndexVersionByMemberId,
+                this::buildIndex,
+                maximumWeight,
+                expireAfterAccess,
+                revalidateInterval
+        );
+    }
+
+    public void index(Template template, List<Tag> tags) {
+        Long memberId = template.getMember().getId();
+        Long templateId = template.getId();
+        Set<Long> tagIds = tags.stream()
+                .map(Tag::getId)
+                .collect(Collectors.toSet());
+        indexes.updateAfterCommit(memberId, index -> index.put(templateId, tagIds));
+    }
+
+    public void remove(Long memberId, Collection<Long> templateIds) {
+        indexes.updateAfterCommit(memberId, index -> templateIds.forEach(index::remove));
+    }
+
+    public List<Long> findTemplateIdsByAllTags(Long memberId, List<Long> tagIds) {
+        return indexes.load(memberId).findTemplateIdsByAllTags(tagIds);
+    }
+
+    @Override
+    public EntityType entityType() {
+        return EntityType.TEMPLATE;
+    }
+
+    @Override
+    public boolean acceptsLocalEvents() {
+        return false;
+    }
+
+    @Override
+    public void invalidate(InvalidationEvent event) {
+        Long templateId = event.entityId();
+        indexes.evictContaining(templateId);
+        templateRepository.findMemberIdById(templateId).ifPresent(indexes::evict);
+    }
+
+    private MemberTagIndex buildIndex(Long memberId, MemberTagsVersion version) {
+        MemberTagIndex index = new MemberTagIndex(version);
+        templateTagRepository.findAllIdsByMemberId(memberId).stream()
+                .collect(Collectors.groupingBy(
+                        TemplateTagIds::templateId,
+                        Collectors.mapping(TemplateTagIds::tagId, Collectors.toSet())
+                ))
+                .forEach(index::put);
+        return index;
+    }
+}
@@ -0,0 +1,23 @@
+package codezap.template.search;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+
+import codezap.template.domain.Snippet;
+import codezap.template.domain.Template;
+
+public interface TemplateSearchEngine {
+
+    void index(Template template, List<Snippet> snippets);
+
+    void update(Template template, List<Snippet> snippets, List<Snippet> editedSnippets);
+
+    void remove(Long memberId, Collection<Long> templateIds);
+
+    /**
+     * 검색어를 색인과 같은 방식으로 단어로 나눈 뒤, 모든 단어가 어떤 색인 단어의 앞부분과 일치하는 템플릿을 찾는다.
+     * 영문 단어 중간의 문자열은 일치하지 않으며, 단어를 만들 수 없는 검색어(문장 부호 등)는 빈 결과를 반환한다.
+     */
+    Set<Long> search(Long memberId, String keyword);
+}
@@ -0,0 +1,30 @@
+package codezap.template.search;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+record TemplateTerms(
+        Set<String> metadataTerms,
+        Map<Long, Set<String>> contentTermsBySnippetId
+) {
+
+    TemplateTerms update(Set<String> metadataTerms, Map<Long, Set<String>> editedContentTerms, Set<Long> snippetIds) {
+        Map<Long, Set<String>> contentTerms = new HashMap<>(contentTermsBySnippetId);
+        contentTerms.keySet().retainAll(snippetIds);
+        contentTerms.putAll(editedContentTerms);
+        return new TemplateTerms(metadataTerms, contentTerms);
+    }
+
+    boolean covers(Set<Long> snippetIds, Map<Long, Set<String>> editedContentTerms) {
+        return snippetIds.stream()
+                .allMatch(id -> contentTermsBySnippetId.containsKey(id) || editedContentTerms.containsKey(id));
+    }
+
+    Set<String> all() {
+        Set<String> terms = new HashSet<>(metadataTerms);
+        contentTermsBySnippetId.values().forEach(terms::addAll);
+        return terms;
+    }
+}
@@ -0,0 +1,8 @@
+package codezap.template.search;
+
+import java.util.List;
+
+public interface Tokenizer {
+
+    List<String> tokenize(String text);
+}
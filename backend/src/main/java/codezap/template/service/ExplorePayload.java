@@ -0,0 +1,10 @@
+package codezap.template.service;
+
+public record ExplorePayload(
+        long generation,
+        String eTag,
+        byte[] body,
+        String gzipETag,
+        byte[] gzipBody
+) {
+}
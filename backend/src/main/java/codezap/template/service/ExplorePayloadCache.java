@@ -0,0 +1,105 @@
+package codezap.template.service;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import java.util.zip.GZIPOutputStream;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import codezap.global.etag.ETags;
+import codezap.global.invalidation.EntityType;
+import codezap.global.invalidation.InvalidationEvent;
+import codezap.global.invalidation.InvalidationListener;
+import codezap.template.dto.response.ExploreTemplatesResponse;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+@Component
+public class ExplorePayloadCache implements InvalidationListener {
+
+    private static final String GZIP = "gzip";
+
+    private final ObjectMapper objectMapper;
+    private final boolean cacheEnabled;
+    private final Cache<Key, ExplorePayload> payloads;
+    private final AtomicLong generation = new AtomicLong();
+
+    public ExplorePayloadCache(
+            ObjectMapper objectMapper,
+            @Value("${codezap.explore.cache.enabled:true}") boolean cacheEnabled,
+            @Value("${codezap.explore.cache.maximum-size:1000}") long maximumSize,
+            @Value("${codezap.explore.cache.ttl:10s}") Duration ttl
+    ) {
+        this.objectMapper = objectMapper;
+        this.cacheEnabled = cacheEnabled;
+        this.payloads = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(ttl)
+                .build();
+    }
+
+    public ExplorePayload get(String cursor, int size, Supplier<ExploreTemplatesResponse> loader) {
+        if (!cacheEnabled) {
+            return load(loader);
+        }
+        Key key = new Key(cursor, size);
+        ExplorePayload payload = payloads.get(key, ignored -> load(loader));
+        if (payload.generation() == generation.get()) {
+            return payload;
+        }
+        payloads.asMap().remove(key, payload);
+        return payloads.get(key, ignored -> load(loader));
+    }
+
+    @Override
+    public EntityType entityType() {
+        return EntityType.TEMPLATE;
+    }
+
+    @Override
+    public void invalidate(InvalidationEvent event) {
+        generation.incrementAndGet();
+        payloads.invalidateAll();
+    }
+
+    private ExplorePayload load(Supplier<ExploreTemplatesResponse> loader) {
+        long loadedGeneration = generation.get();
+        ExploreTemplatesResponse response = loader.get();
+        String eTag = ETags.of(
+                response.templates().stream()
+                        .map(template -> template.id() + ":" + template.modifiedAt())
+                        .toList(),
+                response.nextCursor()
+        );
+        byte[] body = serialize(response);
+        return new ExplorePayload(loadedGeneration, eTag, body, ETags.of(eTag, GZIP), gzip(body));
+    }
+
+    private byte[] serialize(ExploreTemplatesResponse response) {
+        try {
+            return objectMapper.writeValueAsBytes(response);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private byte[] gzip(byte[] body) {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream(body.length / 2 + 64);
+        try (GZIPOutputStream gzipOutputStream = new GZIPOutputStream(outputStream)) {
+            gzipOutputStream.write(body);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return outputStream.toByteArray();
+    }
+
+    private record Key(String cursor, int size) {
+    }
+}
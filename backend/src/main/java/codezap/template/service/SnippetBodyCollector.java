@@ -0,0 +1,84 @@
+package codezap.template.service;
+
+import java.time.Duration;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import jakarta.annotation.PreDestroy;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@Component
+public class SnippetBodyCollector {
+
+    private static final String THREAD_NAME = "snippet-body-collector";
+
+    private final SnippetBodyStore snippetBodyStore;
+    private final TransactionTemplate transactionTemplate;
+    private final boolean enabled;
+    private final int batchSize;
+    private final Duration interval;
+    private final Duration gracePeriod;
+
+    private ScheduledExecutorService executor;
+
+    public SnippetBodyCollector(
+            SnippetBodyStore snippetBodyStore,
+            PlatformTransactionManager transactionManager,
+            @Value("${codezap.snippet.body-collection.enabled:true}") boolean enabled,
+            @Value("${codezap.snippet.body-collection.batch-size:100}") int batchSize,
+            @Value("${codezap.snippet.body-collection.interval:1m}") Duration interval,
+            @Value("${codezap.snippet.body-collection.grace-period:10m}") Duration gracePeriod
+    ) {
+        this.snippetBodyStore = snippetBodyStore;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.enabled = enabled;
+        this.batchSize = batchSize;
+        this.interval = interval;
+        this.gracePeriod = gracePeriod;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (!enabled) {
+            return;
+        }
+        executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, THREAD_NAME);
+            thread.setDaemon(true);
+            return thread;
+        });
+        long intervalMillis = interval.toMillis();
+        executor.scheduleWithFixedDelay(this::collectSafely, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    private void collectSafely() {
+        try {
+            while (collectBatch() == batchSize) {
+                log.debug("참조되지 않는 스니펫 내용 {}개를 삭제했습니다.", batchSize);
+            }
+        } catch (RuntimeException e) {
+            log.warn("참조되지 않는 스니펫 내용 정리 실패", e);
+        }
+    }
+
+    public int collectBatch() {
+        return transactionTemplate.execute(status -> snippetBodyStore.collectUnreferenced(batchSize, gracePeriod));
+    }
+
+    @PreDestroy
+    public void close() {
+        if (executor != null) {
+            executor.shutdownNow();
+        }
+    }
+}
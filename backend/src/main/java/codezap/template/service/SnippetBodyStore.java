@@ -0,0 +1,56 @@
+package codezap.template.service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+import codezap.template.domain.Snippet;
+import codezap.template.domain.SnippetBody;
+import codezap.template.domain.SnippetContent;
+import codezap.template.repository.SnippetBodyRepository;
+
+@Component
+public class SnippetBodyStore {
+
+    private final SnippetBodyRepository snippetBodyRepository;
+
+    public SnippetBodyStore(SnippetBodyRepository snippetBodyRepository) {
+        this.snippetBodyRepository = snippetBodyRepository;
+    }
+
+    public void attach(Collection<Snippet> snippets) {
+        Map<Snippet, String> hashes = new LinkedHashMap<>();
+        Map<String, SnippetContent> contents = new LinkedHashMap<>();
+        snippets.forEach(snippet -> {
+            SnippetContent content = snippet.getSnippetContent();
+            String hash = SnippetBody.hashOf(content.text());
+            hashes.put(snippet, hash);
+            contents.putIfAbsent(hash, content);
+        });
+        store(contents);
+        hashes.forEach((snippet, hash) -> snippet.attachBody(snippetBodyRepository.getReferenceById(hash)));
+    }
+
+    public void store(Map<String, SnippetContent> contents) {
+        if (contents.isEmpty()) {
+            return;
+        }
+        LocalDateTime now = LocalDateTime.now();
+        contents.forEach((hash, content) -> snippetBodyRepository.insertOrTouch(hash, content, now));
+    }
+
+    public int collectUnreferenced(int batchSize, Duration gracePeriod) {
+        LocalDateTime threshold = LocalDateTime.now().minus(gracePeriod);
+        List<String> hashes = snippetBodyRepository.findUnreferencedHashes(threshold, PageRequest.ofSize(batchSize));
+        if (hashes.isEmpty()) {
+            return 0;
+        }
+        return snippetBodyRepository.deleteUnreferenced(hashes, threshold);
+    }
+}
@@ -0,0 +1,118 @@
+package codezap.template.service;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import jakarta.annotation.PreDestroy;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import codezap.template.domain.Snippet;
+import codezap.template.domain.SnippetBody;
+import codezap.template.domain.SnippetContent;
+import codezap.template.repository.SnippetBodyRepository;
+import codezap.template.repository.SnippetRepository;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@Component
+public class SnippetContentMigrator {
+
+    private static final String THREAD_NAME = "snippet-content-migrator";
+
+    private final SnippetRepository snippetRepository;
+    private final SnippetBodyRepository snippetBodyRepository;
+    private final SnippetBodyStore snippetBodyStore;
+    private final TransactionTemplate transactionTemplate;
+    private final boolean enabled;
+    private final int batchSize;
+    private final Duration interval;
+
+    private ScheduledExecutorService executor;
+    private volatile boolean completed;
+
+    public SnippetContentMigrator(
+            SnippetRepository snippetRepository,
+            SnippetBodyRepository snippetBodyRepository,
+            SnippetBodyStore snippetBodyStore,
+            PlatformTransactionManager transactionManager,
+            @Value("${codezap.snippet.content-migration.enabled:true}") boolean enabled,
+            @Value("${codezap.snippet.content-migration.batch-size:100}") int batchSize,
+            @Value("${codezap.snippet.content-migration.interval:1s}") Duration interval
+    ) {
+        this.snippetRepository = snippetRepository;
+        this.snippetBodyRepository = snippetBodyRepository;
+        this.snippetBodyStore = snippetBodyStore;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.enabled = enabled;
+        this.batchSize = batchSize;
+        this.interval = interval;
+        this.completed = !enabled;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (!enabled) {
+            return;
+        }
+        executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, THREAD_NAME);
+            thread.setDaemon(true);
+            return thread;
+        });
+        long intervalMillis = interval.toMillis();
+        executor.scheduleWithFixedDelay(this::migrateSafely, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    private void migrateSafely() {
+        try {
+            if (migrateBatch() == 0) {
+                completed = true;
+                log.info("스니펫 내용 저장소 전환이 완료되었습니다.");
+                executor.shutdown();
+            }
+        } catch (RuntimeException e) {
+            log.warn("스니펫 내용 저장소 전환 실패", e);
+        }
+    }
+
+    public int migrateBatch() {
+        return transactionTemplate.execute(status -> {
+            List<Snippet> snippets = snippetRepository.findAllByBodyIsNullOrderById(PageRequest.ofSize(batchSize));
+            Map<Long, String> hashes = new LinkedHashMap<>();
+            Map<String, SnippetContent> contents = new HashMap<>();
+            snippets.forEach(snippet -> {
+                SnippetContent content = snippet.getSnippetContent();
+                String hash = SnippetBody.hashOf(content.text());
+                hashes.put(snippet.getId(), hash);
+                contents.putIfAbsent(hash, content);
+            });
+            snippetBodyStore.store(contents);
+            hashes.forEach((id, hash) -> snippetRepository.attachBody(id, snippetBodyRepository.getReferenceById(hash)));
+            return snippets.size();
+        });
+    }
+
+    public boolean isCompleted() {
+        return completed;
+    }
+
+    @PreDestroy
+    public void close() {
+        if (executor != null) {
+            executor.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,114 @@
+package codezap.template.service;
+
+import java.text.Normalizer;
+import java.text.Normalizer.Form;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import codezap.global.exception.CodeZapException;
+import codezap.template.domain.Tag;
+import codezap.template.repository.TagRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+@Component
+public class TagResolver {
+
+    private final TagRepository tagRepository;
+    private final Cache<String, Long> tagIdsByName;
+    private final boolean cacheEnabled;
+
+    public TagResolver(
+            TagRepository tagRepository,
+            @Value("${codezap.tag.cache.enabled:true}") boolean cacheEnabled,
+            @Value("${codezap.tag.cache.maximum-size:10000}") long maximumSize,
+            @Value("${codezap.tag.cache.ttl:1h}") Duration ttl
+    ) {
+        this.tagRepository = tagRepository;
+        this.cacheEnabled = cacheEnabled;
+        this.tagIdsByName = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterAccess(ttl)
+                .build();
+    }
+
+    public List<Tag> resolve(List<String> names) {
+        Map<String, String> namesByKey = new LinkedHashMap<>();
+        names.forEach(name -> namesByKey.putIfAbsent(normalize(name), name));
+        Map<String, Tag> tagsByKey = new HashMap<>();
+        Map<String, String> uncachedNamesByKey = new LinkedHashMap<>();
+        namesByKey.forEach((key, name) -> {
+            Long cachedId = cacheEnabled ? tagIdsByName.getIfPresent(key) : null;
+            if (cachedId == null) {
+                uncachedNamesByKey.put(key, name);
+                return;
+            }
+            tagsByKey.put(key, tagRepository.getReferenceById(cachedId));
+        });
+        if (!uncachedNamesByKey.isEmpty()) {
+            Map<String, Tag> loadedTags = loadOrCreate(uncachedNamesByKey);
+            tagsByKey.putAll(loadedTags);
+            cacheAfterCommit(loadedTags);
+        }
+        return namesByKey.keySet().stream()
+                .map(tagsByKey::get)
+                .toList();
+    }
+
+    private Map<String, Tag> loadOrCreate(Map<String, String> namesByKey) {
+        Map<String, Tag> tagsByKey = new HashMap<>();
+        tagRepository.findByNameIn(namesByKey.values())
+                .forEach(tag -> tagsByKey.putIfAbsent(normalize(tag.getName()), tag));
+        List<Tag> missingTags = namesByKey.entrySet().stream()
+                .filter(entry -> !tagsByKey.containsKey(entry.getKey()))
+                .map(entry -> new Tag(entry.getValue()))
+                .toList();
+        if (missingTags.isEmpty()) {
+            return tagsByKey;
+        }
+        try {
+            tagRepository.saveAllAndFlush(missingTags)
+                    .forEach(tag -> tagsByKey.put(normalize(tag.getName()), tag));
+        } catch (DataIntegrityViolationException e) {
+            throw new CodeZapException(HttpStatus.CONFLICT, "같은 이름의 태그가 동시에 생성되었습니다. 다시 시도해주세요.");
+        }
+        return tagsByKey;
+    }
+
+    private String normalize(String name) {
+        return Normalizer.normalize(name, Form.NFD)
+                .replaceAll("\\p{M}", "")
+                .toLowerCase(Locale.ROOT);
+    }
+
+    private void cacheAfterCommit(Map<String, Tag> tagsByKey) {
+        if (!cacheEnabled) {
+            return;
+        }
+        Map<String, Long> tagIds = tagsByKey.entrySet().stream()
+                .collect(Collectors.toMap(Entry::getKey, entry -> entry.getValue().getId()));
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            tagIdsByName.putAll(tagIds);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                tagIdsByName.putAll(tagIds);
+            }
+        });
+    }
+}
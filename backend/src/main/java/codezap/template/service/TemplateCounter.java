@@ -0,0 +1,160 @@
+package codezap.template.service;
+
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Set;
+import java.util.function.BiConsumer;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import codezap.template.domain.TemplateCountType;
+import codezap.template.repository.TagCount;
+import codezap.template.repository.TargetCount;
+import codezap.template.repository.TemplateCountRepository;
+import codezap.template.repository.TemplateRepository;
+import codezap.template.repository.TemplateTagRepository;
+
+@Component
+public class TemplateCounter {
+
+    private final TemplateCountRepository templateCountRepository;
+    private final TemplateRepository templateRepository;
+    private final TemplateTagRepository templateTagRepository;
+    private final TransactionTemplate initializingTransaction;
+
+    public TemplateCounter(
+            TemplateCountRepository templateCountRepository,
+            TemplateRepository templateRepository,
+            TemplateTagRepository templateTagRepository,
+            PlatformTransactionManager transactionManager
+    ) {
+        this.templateCountRepository = templateCountRepository;
+        this.templateRepository = templateRepository;
+        this.templateTagRepository = templateTagRepository;
+        this.initializingTransaction = new TransactionTemplate(transactionManager);
+        this.initializingTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    public void countCreated(Long memberId, Long categoryId, Collection<Long> tagIds) {
+        Deltas deltas = new Deltas();
+        deltas.add(TemplateCountType.MEMBER, memberId, 1);
+        deltas.add(TemplateCountType.CATEGORY, categoryId, 1);
+        tagIds.forEach(tagId -> deltas.add(TemplateCountType.TAG, tagId, 1));
+        apply(memberId, deltas);
+    }
+
+    public void countUpdated(
+            Long memberId,
+            Long oldCategoryId,
+            Long newCategoryId,
+            Collection<Long> oldTagIds,
+            Collection<Long> newTagIds
+    ) {
+        Deltas deltas = new Deltas();
+        deltas.add(TemplateCountType.CATEGORY, oldCategoryId, -1);
+        deltas.add(TemplateCountType.CATEGORY, newCategoryId, 1);
+        oldTagIds.forEach(tagId -> deltas.add(TemplateCountType.TAG, tagId, -1));
+        newTagIds.forEach(tagId -> deltas.add(TemplateCountType.TAG, tagId, 1));
+        apply(memberId, deltas);
+    }
+
+    public void countDeleted(
+            Long memberId,
+            int templateCount,
+            List<TargetCount> categoryCounts,
+            List<TargetCount> tagCounts
+    ) {
+        Deltas deltas = new Deltas();
+        deltas.add(TemplateCountType.MEMBER, memberId, -templateCount);
+        categoryCounts.forEach(count -> deltas.add(TemplateCountType.CATEGORY, count.targetId(), -count.count()));
+        tagCounts.forEach(count -> deltas.add(TemplateCountType.TAG, count.targetId(), -count.count()));
+        apply(memberId, deltas);
+    }
+
+    public Map<Long, Long> findCategoryCounts(Long memberId) {
+        return read(memberId, () -> templateCountRepository.findAllCountsBy(memberId, TemplateCountType.CATEGORY))
+                .stream()
+                .collect(Collectors.toMap(TargetCount::targetId, TargetCount::count));
+    }
+
+    public List<TagCount> findTagCounts(Long memberId) {
+        return read(memberId, () -> templateCountRepository.findAllTagCountsByMemberId(memberId));
+    }
+
+    public void removeCategory(Long memberId, Long categoryId) {
+        templateCountRepository.deleteBy(memberId, TemplateCountType.CATEGORY, categoryId);
+    }
+
+    private <T> T read(Long memberId, Supplier<T> reader) {
+        if (templateCountRepository.existsByMemberIdAndType(memberId, TemplateCountType.MEMBER)) {
+            return reader.get();
+        }
+        return initializingTransaction.execute(status -> {
+            initialize(memberId);
+            return reader.get();
+        });
+    }
+
+    private void apply(Long memberId, Deltas deltas) {
+        if (!templateCountRepository.existsByMemberIdAndType(memberId, TemplateCountType.MEMBER)) {
+            initializingTransaction.executeWithoutResult(status -> initialize(memberId));
+        }
+        deltas.forEach((type, deltaByTargetId) -> apply(memberId, type, deltaByTargetId));
+    }
+
+    private void apply(Long memberId, TemplateCountType type, Map<Long, Long> deltaByTargetId) {
+        Map<Long, Long> changes = deltaByTargetId.entrySet().stream()
+                .filter(entry -> entry.getValue() != 0)
+                .collect(Collectors.toMap(Entry::getKey, Entry::getValue));
+        if (changes.isEmpty()) {
+            return;
+        }
+        Set<Long> existingTargetIds = new HashSet<>(
+                templateCountRepository.findTargetIdsBy(memberId, type, changes.keySet()));
+        changes.keySet().stream()
+                .filter(targetId -> !existingTargetIds.contains(targetId))
+                .forEach(targetId -> templateCountRepository.insertIfAbsent(memberId, type, targetId, 0L));
+        changes.entrySet().stream()
+                .collect(Collectors.groupingBy(
+                        Entry::getValue,
+                        Collectors.mapping(Entry::getKey, Collectors.toList())
+                ))
+                .forEach((delta, targetIds) -> templateCountRepository.increase(memberId, type, targetIds, delta));
+    }
+
+    private void initialize(Long memberId) {
+        if (templateCountRepository.existsByMemberIdAndType(memberId, TemplateCountType.MEMBER)) {
+            return;
+        }
+        templateRepository.findCategoryCountsByMemberId(memberId).forEach(count -> templateCountRepository
+                .insertIfAbsent(memberId, TemplateCountType.CATEGORY, count.targetId(), count.count()));
+        templateTagRepository.findTagCountsByMemberId(memberId).forEach(count -> templateCountRepository
+                .insertIfAbsent(memberId, TemplateCountType.TAG, count.targetId(), count.count()));
+        templateCountRepository.insertIfAbsent(
+                memberId, TemplateCountType.MEMBER, memberId, templateRepository.countByMemberId(memberId));
+    }
+
+    private static class Deltas {
+
+        private final Map<TemplateCountType, Map<Long, Long>> deltas = new EnumMap<>(TemplateCountType.class);
+
+        void add(TemplateCountType type, Long targetId, long delta) {
+            deltas.computeIfAbsent(type, key -> new HashMap<>())
+                    .merge(targetId, delta, Long::sum);
+        }
+
+        void forEach(BiConsumer<TemplateCountType, Map<Long, Long>> action) {
+            deltas.forEach(action);
+        }
+    }
+}
@@ -1,18 +1,32 @@
 package codezap.template.service;
 
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
-import java.util.Objects;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import codezap.category.domain.Category;
 import codezap.category.repository.CategoryRepository;
+import codezap.global.etag.ETags;
 import codezap.global.exception.CodeZapException;
+import codezap.global.invalidation.EntityType;
+import codezap.global.invalidation.InvalidationBus;
 import codezap.member.domain.Member;
 import codezap.member.dto.MemberDto;
 import codezap.member.repository.MemberRepository;
@@ -23,46 +37,73 @@ import codezap.template.domain.TemplateTag;
 import codezap.template.domain.ThumbnailSnippet;
 import codezap.template.dto.request.CreateSnippetRequest;
 import codezap.template.dto.request.CreateTemplateRequest;
+import codezap.template.dto.request.TemplateCursor;
 import codezap.template.dto.request.UpdateSnippetRequest;
 import codezap.template.dto.request.UpdateTemplateRequest;
 import codezap.template.dto.response.ExploreTemplatesResponse;
 import codezap.template.dto.response.FindAllTagsResponse;
 import codezap.template.dto.response.FindAllTemplatesResponse;
 import codezap.template.dto.response.FindAllTemplatesResponse.ItemResponse;
-import codezap.template.dto.response.FindTagResponse;
 import codezap.template.dto.response.FindTemplateResponse;
+import codezap.template.repository.ExploreTemplateView;
 import codezap.template.repository.SnippetRepository;
-import codezap.template.repository.TagRepository;
+import codezap.template.repository.TargetCount;
+import codezap.template.repository.TemplateDetailView;
+import codezap.template.repository.TemplatePosition;
 import codezap.template.repository.TemplateRepository;
 import codezap.template.repository.TemplateTagRepository;
+import codezap.template.repository.TemplateVersion;
 import codezap.template.repository.ThumbnailSnippetRepository;
+import codezap.template.search.TagTemplateIndex;
+import codezap.template.search.TemplateSearchEngine;
+import io.micrometer.core.annotation.Timed;
 
 @Service
+@Timed(histogram = true)
 public class TemplateService {
 
     public static final int FIRST_ORDINAL = 1;
+    private static final int MAX_EXPLORE_SIZE = 100;
+    private static final int MAX_DELETE_SIZE = 1000;
+    private static final int POSITION_SCAN_SIZE = 500;
 
     private final ThumbnailSnippetRepository thumbnailSnippetRepository;
     private final TemplateRepository templateRepository;
     private final SnippetRepository snippetRepository;
     private final CategoryRepository categoryRepository;
-    private final TagRepository tagRepository;
     private final TemplateTagRepository templateTagRepository;
     private final MemberRepository memberRepository;
+    private final TemplateSearchEngine templateSearchEngine;
+    private final TagResolver tagResolver;
+    private final TagTemplateIndex tagTemplateIndex;
+    private final TemplateCounter templateCounter;
+    private final InvalidationBus invalidationBus;
+    private final SnippetBodyStore snippetBodyStore;
 
     public TemplateService(ThumbnailSnippetRepository thumbnailSnippetRepository,
             TemplateRepository templateRepository, SnippetRepository snippetRepository,
-            CategoryRepository categoryRepository, TagRepository tagRepository,
+            CategoryRepository categoryRepository,
             TemplateTagRepository templateTagRepository,
-            MemberRepository memberRepository
+            MemberRepository memberRepository,
+            TemplateSearchEngine templateSearchEngine,
+            TagResolver tagResolver,
+            TagTemplateIndex tagTemplateIndex,
+            TemplateCounter templateCounter,
+            InvalidationBus invalidationBus,
+            SnippetBodyStore snippetBodyStore
     ) {
         this.thumbnailSnippetRepository = thumbnailSnippetRepository;
         this.templateRepository = templateRepository;
         this.snippetRepository = snippetRepository;
         this.categoryRepository = categoryRepository;
-        this.tagRepository = tagRepository;
         this.templateTagRepository = templateTagRepository;
         this.memberRepository = memberRepository;
+        this.templateSearchEngine = templateSearchEngine;
+        this.tagResolver = tagResolver;
+        this.tagTemplateIndex = tagTemplateIndex;
+        this.templateCounter = templateCounter;
+        this.invalidationBus = invalidationBus;
+        this.snippetBodyStore = snippetBodyStore;
     }
 
     @Transactional
@@ -73,16 +114,21 @@ public class TemplateService {
         Template template = templateRepository.save(
                 new Template(member, createTemplateRequest.title(), createTemplateRequest.description(), category)
         );
-        createTags(createTemplateRequest, template);
-        snippetRepository.saveAll(
-                createTemplateRequest.snippets().stream()
-                        .map(createSnippetRequest -> createSnippet(createSnippetRequest, template))
-                        .toList()
-        );
+        List<Tag> tags = createTags(createTemplateRequest, template);
+        templateCounter.countCreated(member.getId(), category.getId(), extractIds(tags));
+        List<Snippet> snippets = createTemplateRequest.snippets().stream()
+                .map(createSnippetRequest -> createSnippet(createSnippetRequest, template))
+                .toList();
+        snippetBodyStore.attach(snippets);
+        snippetRepository.saveAll(snippets);
+        templateSearchEngine.index(template, snippets);
 
-        Snippet thumbnailSnippet = snippetRepository.findByTemplateAndOrdinal(template, FIRST_ORDINAL)
+        Snippet thumbnailSnippet = snippets.stream()
+                .filter(snippet -> snippet.getOrdinal() == FIRST_ORDINAL)
+                .findFirst()
                 .orElseThrow(this::throwNotFoundSnippet);
         thumbnailSnippetRepository.save(new ThumbnailSnippet(template, thumbnailSnippet));
+        invalidationBus.publish(EntityType.TEMPLATE, template.getId());
         return template.getId();
     }
 
@@ -92,20 +138,21 @@ public class TemplateService {
         }
     }
 
-    private void createTags(CreateTemplateRequest createTemplateRequest, Template template) {
-        tagRepository.saveAll(
-                createTemplateRequest.tags().stream()
-                        .filter(tagName -> !tagRepository.existsByName(tagName))
-                        .map(Tag::new)
-                        .toList()
-        );
-
+    private List<Tag> createTags(CreateTemplateRequest createTemplateRequest, Template template) {
+        List<Tag> tags = tagResolver.resolve(createTemplateRequest.tags());
         templateTagRepository.saveAll(
-                createTemplateRequest.tags().stream()
-                        .map(tag -> tagRepository.findByName(tag).orElseThrow(this::throwNotFoundTag))
+                tags.stream()
                         .map(tag -> new TemplateTag(template, tag))
                         .toList()
         );
+        tagTemplateIndex.index(template, tags);
+        return tags;
+    }
+
+    private List<Long> extractIds(List<Tag> tags) {
+        return tags.stream()
+                .map(Tag::getId)
+                .toList();
     }
 
     private Snippet createSnippet(CreateSnippetRequest createSnippetRequest, Template template) {
@@ -116,20 +163,60 @@ public class TemplateService {
         );
     }
 
-    public ExploreTemplatesResponse findAll() {
-        return ExploreTemplatesResponse.from(thumbnailSnippetRepository.findAll());
+    @Transactional(readOnly = true)
+    public ExploreTemplatesResponse findAll(String cursor, int size) {
+        validateExploreSize(size);
+        TemplateCursor templateCursor = TemplateCursor.decode(cursor);
+        Slice<ExploreTemplateView> slice = thumbnailSnippetRepository.findExploreViewsAfter(
+                templateCursor.modifiedAt(), templateCursor.id(), PageRequest.ofSize(size));
+
+        List<ExploreTemplateView> exploreTemplateViews = slice.getContent();
+        String nextCursor = null;
+        if (slice.hasNext()) {
+            ExploreTemplateView last = exploreTemplateViews.get(exploreTemplateViews.size() - 1);
+            nextCursor = new TemplateCursor(last.modifiedAt(), last.id()).encode();
+        }
+        return ExploreTemplatesResponse.of(exploreTemplateViews, nextCursor);
+    }
+
+    private void validateExploreSize(int size) {
+        if (size < 1 || size > MAX_EXPLORE_SIZE) {
+            throw new CodeZapException(HttpStatus.BAD_REQUEST,
+                    "조회 개수는 1개 이상 " + MAX_EXPLORE_SIZE + "개 이하로 입력해주세요.");
+        }
     }
 
+    @Transactional(readOnly = true)
+    public String findETagByIdAndMember(Long id, MemberDto memberDto) {
+        TemplateVersion version = templateRepository.findVersionByIdAndMemberId(id, memberDto.id())
+                .orElseThrow(() -> notFoundOrUnauthorizedTemplate(id));
+        return ETags.of(
+                version.id(),
+                version.modifiedAt(),
+                version.categoryId(),
+                version.categoryModifiedAt(),
+                version.snippetCount(),
+                version.snippetModifiedAt(),
+                version.tagCount(),
+                version.tagCreatedAt()
+        );
+    }
+
+    @Transactional(readOnly = true)
     public FindTemplateResponse findByIdAndMember(Long id, MemberDto memberDto) {
-        Member member = memberRepository.fetchById(memberDto.id());
-        Template template = templateRepository.fetchById(id);
-        validateTemplateAuthorizeMember(template, member);
+        List<TemplateDetailView> rows = templateRepository.findDetailByIdAndMemberId(id, memberDto.id());
+        if (rows.isEmpty()) {
+            throw notFoundOrUnauthorizedTemplate(id);
+        }
+        List<Snippet> snippets = snippetRepository.findAllByTemplateIdOrderByOrdinal(id);
+        return FindTemplateResponse.of(rows, snippets);
+    }
 
-        List<Snippet> snippets = snippetRepository.findAllByTemplate(template);
-        List<Tag> tags = templateTagRepository.findAllByTemplate(template).stream()
-                .map(TemplateTag::getTag)
-                .toList();
-        return FindTemplateResponse.of(template, snippets, tags);
+    private CodeZapException notFoundOrUnauthorizedTemplate(Long id) {
+        if (templateRepository.existsById(id)) {
+            return new CodeZapException(HttpStatus.UNAUTHORIZED, "해당 템플릿에 대한 권한이 없는 유저입니다.");
+        }
+        return new CodeZapException(HttpStatus.NOT_FOUND, "식별자 " + id + "에 해당하는 템플릿이 존재하지 않습니다.");
     }
 
     private void validateTemplateAuthorizeMember(Template template, Member member) {
@@ -138,6 +225,7 @@ public class TemplateService {
         }
     }
 
+    @Transactional(readOnly = true)
     public FindAllTemplatesResponse findAllBy(
             long memberId,
             String keyword,
@@ -145,39 +233,165 @@ public class TemplateService {
             List<Long> tagIds,
             Pageable pageable
     ) {
-        keyword = "%" + keyword + "%";
         pageable = PageRequest.of(pageable.getPageNumber() - 1, pageable.getPageSize(), pageable.getSort());
 
-        if (categoryId != null && tagIds != null) {
-            List<Long> templateIds = templateTagRepository.findAllTemplateIdInTagIds(tagIds, tagIds.size());
-            Page<Template> templatePage =
-                    templateRepository.searchBy(memberId, keyword, categoryId, templateIds, pageable);
-            return makeTemplatesResponseBy(templatePage);
+        if (isBlank(keyword) && tagIds == null) {
+            return makeTemplatesResponseBy(searchBy(memberId, categoryId, pageable));
+        }
+        Set<Long> templateIds = findTemplateIdsBy(memberId, keyword, tagIds);
+        if (templateIds.isEmpty()) {
+            return makeTemplatesResponseBy(Page.empty(pageable));
+        }
+        return makeTemplatesResponseBy(searchBy(memberId, categoryId, templateIds, pageable));
+    }
+
+    @Transactional(readOnly = true)
+    public FindAllTemplatesResponse findAllByCursor(
+            long memberId,
+            String keyword,
+            Long categoryId,
+            List<Long> tagIds,
+            String cursor,
+            int size
+    ) {
+        TemplateCursor templateCursor = TemplateCursor.decode(cursor);
+        Pageable pageable = PageRequest.ofSize(size);
+
+        if (isBlank(keyword) && tagIds == null) {
+            return makeTemplatesResponseBy(searchAfter(memberId, categoryId, templateCursor, pageable));
+        }
+        Set<Long> templateIds = findTemplateIdsBy(memberId, keyword, tagIds);
+        if (templateIds.isEmpty()) {
+            return FindAllTemplatesResponse.of(List.of(), null);
         }
+        return makeTemplatesResponseBy(searchAfter(memberId, categoryId, templateIds, templateCursor, pageable));
+    }
+
+    private Slice<Template> searchAfter(long memberId, Long categoryId, TemplateCursor cursor, Pageable pageable) {
         if (categoryId != null) {
-            Page<Template> templatePage = templateRepository.searchBy(memberId, keyword, categoryId, pageable);
-            return makeTemplatesResponseBy(templatePage);
+            return templateRepository.searchAfter(memberId, categoryId, cursor.modifiedAt(), cursor.id(), pageable);
         }
-        if (tagIds != null) {
-            List<Long> templateIds = templateTagRepository.findAllTemplateIdInTagIds(tagIds, tagIds.size());
-            Page<Template> templatePage = templateRepository.searchBy(memberId, keyword, templateIds, pageable);
-            return makeTemplatesResponseBy(templatePage);
+        return templateRepository.searchAfter(memberId, cursor.modifiedAt(), cursor.id(), pageable);
+    }
+
+    private Slice<Template> searchAfter(
+            long memberId,
+            Long categoryId,
+            Set<Long> templateIds,
+            TemplateCursor cursor,
+            Pageable pageable
+    ) {
+        List<Long> pageIds = new ArrayList<>();
+        List<TemplatePosition> positions;
+        do {
+            positions = findPositionsAfter(memberId, categoryId, cursor);
+            positions.stream()
+                    .map(TemplatePosition::id)
+                    .filter(templateIds::contains)
+                    .limit(pageable.getPageSize() + 1L - pageIds.size())
+                    .forEach(pageIds::add);
+            if (!positions.isEmpty()) {
+                TemplatePosition last = positions.get(positions.size() - 1);
+                cursor = new TemplateCursor(last.modifiedAt(), last.id());
+            }
+        } while (pageIds.size() <= pageable.getPageSize() && positions.size() == POSITION_SCAN_SIZE);
+
+        boolean hasNext = pageIds.size() > pageable.getPageSize();
+        List<Long> contentIds = pageIds.subList(0, Math.min(pageIds.size(), pageable.getPageSize()));
+        return new SliceImpl<>(findAllInOrder(contentIds), pageable, hasNext);
+    }
+
+    private List<TemplatePosition> findPositionsAfter(long memberId, Long categoryId, TemplateCursor cursor) {
+        Pageable pageable = PageRequest.ofSize(POSITION_SCAN_SIZE);
+        if (categoryId != null) {
+            return templateRepository.findPositionsAfter(
+                    memberId, categoryId, cursor.modifiedAt(), cursor.id(), pageable);
         }
-        Page<Template> templatePage = templateRepository.searchBy(memberId, keyword, pageable);
-        return makeTemplatesResponseBy(templatePage);
+        return templateRepository.findPositionsAfter(memberId, cursor.modifiedAt(), cursor.id(), pageable);
+    }
+
+    private Set<Long> findTemplateIdsBy(long memberId, String keyword, List<Long> tagIds) {
+        if (tagIds == null) {
+            return templateSearchEngine.search(memberId, keyword);
+        }
+        Set<Long> templateIds = new HashSet<>(tagTemplateIndex.findTemplateIdsByAllTags(memberId, tagIds));
+        if (isBlank(keyword)) {
+            return templateIds;
+        }
+        templateIds.retainAll(templateSearchEngine.search(memberId, keyword));
+        return templateIds;
+    }
+
+    private Page<Template> searchBy(long memberId, Long categoryId, Pageable pageable) {
+        if (categoryId != null) {
+            return templateRepository.searchBy(memberId, categoryId, pageable);
+        }
+        return templateRepository.searchBy(memberId, pageable);
+    }
+
+    private Page<Template> searchBy(long memberId, Long categoryId, Set<Long> templateIds, Pageable pageable) {
+        List<Long> matchedIds = findIdsBy(memberId, categoryId, pageable.getSort()).stream()
+                .filter(templateIds::contains)
+                .toList();
+        int fromIndex = (int) Math.min(pageable.getOffset(), matchedIds.size());
+        int toIndex = Math.min(fromIndex + pageable.getPageSize(), matchedIds.size());
+        return new PageImpl<>(findAllInOrder(matchedIds.subList(fromIndex, toIndex)), pageable, matchedIds.size());
+    }
+
+    private List<Long> findIdsBy(long memberId, Long categoryId, Sort sort) {
+        if (categoryId != null) {
+            return templateRepository.findIdsByMemberIdAndCategoryId(memberId, categoryId, sort);
+        }
+        return templateRepository.findIdsByMemberId(memberId, sort);
+    }
+
+    private List<Template> findAllInOrder(List<Long> templateIds) {
+        if (templateIds.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, Template> templatesById = templateRepository.findAllById(templateIds).stream()
+                .collect(Collectors.toMap(Template::getId, Function.identity()));
+        return templateIds.stream()
+                .map(templatesById::get)
+                .toList();
+    }
+
+    private boolean isBlank(String keyword) {
+        return keyword == null || keyword.isBlank();
     }
 
     private FindAllTemplatesResponse makeTemplatesResponseBy(Page<Template> page) {
-        List<ItemResponse> itemResponses = page.stream()
-                .map(template -> ItemResponse.of(template, getTemplateTags(template)))
+        return FindAllTemplatesResponse.of(page, makeItemResponses(page.getContent()));
+    }
+
+    private FindAllTemplatesResponse makeTemplatesResponseBy(Slice<Template> slice) {
+        List<Template> templates = slice.getContent();
+        String nextCursor = null;
+        if (slice.hasNext()) {
+            nextCursor = TemplateCursor.from(templates.get(templates.size() - 1)).encode();
+        }
+        return FindAllTemplatesResponse.of(makeItemResponses(templates), nextCursor);
+    }
+
+    private List<ItemResponse> makeItemResponses(List<Template> templates) {
+        Map<Long, List<Tag>> tagsByTemplateId = findTagsByTemplateId(templates);
+        return templates.stream()
+                .map(template -> ItemResponse.of(template, tagsByTemplateId.getOrDefault(template.getId(), List.of())))
                 .toList();
-        return new FindAllTemplatesResponse(page.getTotalPages(), page.getTotalElements(), itemResponses);
     }
 
-    private List<Tag> getTemplateTags(Template template) {
-        return templateTagRepository.findAllByTemplate(template).stream()
-                .map(templateTag -> tagRepository.fetchById(templateTag.getTag().getId()))
+    private Map<Long, List<Tag>> findTagsByTemplateId(List<Template> templates) {
+        if (templates.isEmpty()) {
+            return Map.of();
+        }
+        List<Long> templateIds = templates.stream()
+                .map(Template::getId)
                 .toList();
+        return templateTagRepository.findAllWithTagByTemplateIdIn(templateIds).stream()
+                .collect(Collectors.groupingBy(
+                        templateTag -> templateTag.getTemplate().getId(),
+                        Collectors.mapping(TemplateTag::getTag, Collectors.toList())
+                ));
     }
 
     @Transactional
@@ -188,108 +402,171 @@ public class TemplateService {
         Template template = templateRepository.fetchById(templateId);
         validateTemplateAuthorizeMember(template, member);
 
+        Long oldCategoryId = template.getCategory().getId();
+        List<TemplateTag> oldTemplateTags = templateTagRepository.findAllWithTagByTemplateIdIn(List.of(templateId));
         template.updateTemplate(updateTemplateRequest.title(), updateTemplateRequest.description(), category);
-        updateSnippets(updateTemplateRequest, template);
-        updateTags(updateTemplateRequest, template);
-        validateSnippetsCount(updateTemplateRequest, template);
+        List<Snippet> editedSnippets = new ArrayList<>();
+        List<Snippet> snippets = updateSnippets(updateTemplateRequest, template, editedSnippets);
+        List<Tag> tags = updateTags(updateTemplateRequest, template, oldTemplateTags);
+        templateCounter.countUpdated(
+                member.getId(),
+                oldCategoryId,
+                category.getId(),
+                oldTemplateTags.stream().map(templateTag -> templateTag.getTag().getId()).toList(),
+                extractIds(tags)
+        );
+        templateSearchEngine.update(template, snippets, editedSnippets);
+        invalidationBus.publish(EntityType.TEMPLATE, templateId);
     }
 
-    private void updateSnippets(UpdateTemplateRequest updateTemplateRequest, Template template) {
-        updateTemplateRequest.updateSnippets().forEach(this::updateSnippet);
-        snippetRepository.saveAll(
-                updateTemplateRequest.createSnippets().stream()
-                        .map(createSnippetRequest -> createSnippet(createSnippetRequest, template))
-                        .toList()
-        );
+    private List<Snippet> updateSnippets(
+            UpdateTemplateRequest updateTemplateRequest,
+            Template template,
+            List<Snippet> editedSnippets
+    ) {
+        Map<Long, Snippet> snippetsById = snippetRepository.findAllByTemplate(template).stream()
+                .collect(Collectors.toMap(Snippet::getId, Function.identity()));
+        updateTemplateRequest.updateSnippets()
+                .forEach(updateSnippetRequest -> updateSnippet(snippetsById, updateSnippetRequest));
+        List<Snippet> deletedSnippets = updateTemplateRequest.deleteSnippetIds().stream()
+                .map(snippetId -> deleteSnippet(snippetsById, snippetId))
+                .toList();
+        Set<Long> deletedSnippetIds = deletedSnippets.stream()
+                .map(Snippet::getId)
+                .collect(Collectors.toSet());
+        validateSnippetsCount(updateTemplateRequest, snippetsById.size());
+
+        List<Snippet> createdSnippets = updateTemplateRequest.createSnippets().stream()
+                .map(createSnippetRequest -> createSnippet(createSnippetRequest, template))
+                .toList();
+        snippetsById.values().stream()
+                .filter(snippet -> snippet.getBody() == null)
+                .forEach(editedSnippets::add);
+        editedSnippets.addAll(createdSnippets);
+        snippetBodyStore.attach(editedSnippets);
+        snippetRepository.saveAll(createdSnippets);
+        List<Snippet> snippets = Stream.concat(snippetsById.values().stream(), createdSnippets.stream())
+                .toList();
 
         ThumbnailSnippet thumbnailSnippet = thumbnailSnippetRepository.findByTemplate(template)
                 .orElseThrow(this::throwNotFoundThumbnailSnippet);
-
-        if (isThumbnailSnippetDeleted(updateTemplateRequest, thumbnailSnippet)) {
-            updateThumbnailSnippet(template, thumbnailSnippet);
+        Long thumbnailSnippetId = thumbnailSnippet.getSnippet().getId();
+        if (deletedSnippetIds.contains(thumbnailSnippetId)) {
+            updateThumbnailSnippet(snippets, thumbnailSnippet);
+        } else {
+            editedSnippets.stream()
+                    .filter(snippet -> snippet.getId().equals(thumbnailSnippetId))
+                    .findFirst()
+                    .ifPresent(thumbnailSnippet::updateThumbnailSnippet);
         }
+        thumbnailSnippet.refresh();
 
-        updateTemplateRequest.deleteSnippetIds().forEach(snippetRepository::deleteById);
+        if (!deletedSnippetIds.isEmpty()) {
+            snippetRepository.deleteAllByTemplateAndIdIn(template, deletedSnippetIds);
+        }
+        return snippets;
     }
 
-    private void updateSnippet(UpdateSnippetRequest updateSnippetRequest) {
-        Snippet snippet = snippetRepository.fetchById(updateSnippetRequest.id());
+    private void updateSnippet(
+            Map<Long, Snippet> snippetsById,
+            UpdateSnippetRequest updateSnippetRequest
+    ) {
+        Snippet snippet = snippetsById.get(updateSnippetRequest.id());
+        if (snippet == null) {
+            throw new CodeZapException(HttpStatus.NOT_FOUND,
+                    "식별자 " + updateSnippetRequest.id() + "에 해당하는 스니펫이 존재하지 않습니다.");
+        }
         snippet.updateSnippet(updateSnippetRequest.filename(), updateSnippetRequest.content(),
                 updateSnippetRequest.ordinal());
     }
 
-    private boolean isThumbnailSnippetDeleted(
-            UpdateTemplateRequest updateTemplateRequest,
-            ThumbnailSnippet thumbnailSnippet
-    ) {
-        return updateTemplateRequest.deleteSnippetIds().contains(thumbnailSnippet.getId());
+    private Snippet deleteSnippet(Map<Long, Snippet> snippetsById, Long snippetId) {
+        Snippet snippet = snippetsById.remove(snippetId);
+        if (snippet == null) {
+            throw new CodeZapException(HttpStatus.NOT_FOUND, "식별자 " + snippetId + "에 해당하는 스니펫이 존재하지 않습니다.");
+        }
+        return snippet;
     }
 
-    private void updateThumbnailSnippet(Template template, ThumbnailSnippet thumbnailSnippet) {
-        List<Snippet> snippets = snippetRepository.findAllByTemplateAndOrdinal(template, FIRST_ORDINAL);
+    private void updateThumbnailSnippet(List<Snippet> snippets, ThumbnailSnippet thumbnailSnippet) {
         snippets.stream()
-                .filter(snippet -> !Objects.equals(thumbnailSnippet.getSnippet().getId(), snippet.getId()))
+                .filter(snippet -> snippet.getOrdinal() == FIRST_ORDINAL)
                 .findFirst()
                 .ifPresent(thumbnailSnippet::updateThumbnailSnippet);
     }
 
-    private void updateTags(UpdateTemplateRequest updateTemplateRequest, Template template) {
-        templateTagRepository.deleteAllByTemplateId(template.getId());
-        tagRepository.saveAll(
-                updateTemplateRequest.tags().stream()
-                        .filter(tagName -> !tagRepository.existsByName(tagName))
-                        .map(Tag::new)
-                        .toList()
-        );
-
+    private List<Tag> updateTags(
+            UpdateTemplateRequest updateTemplateRequest,
+            Template template,
+            List<TemplateTag> oldTemplateTags
+    ) {
+        templateTagRepository.deleteAll(oldTemplateTags);
+        List<Tag> tags = tagResolver.resolve(updateTemplateRequest.tags());
         templateTagRepository.saveAll(
-                updateTemplateRequest.tags().stream()
-                        .map(tag -> tagRepository.findByName(tag).orElseThrow(this::throwNotFoundTag))
+                tags.stream()
                         .map(tag -> new TemplateTag(template, tag))
                         .toList()
         );
+        tagTemplateIndex.index(template, tags);
+        return tags;
     }
 
-    private void validateSnippetsCount(UpdateTemplateRequest updateTemplateRequest, Template template) {
-        if (updateTemplateRequest.updateSnippets().size() + updateTemplateRequest.createSnippets().size()
-                != snippetRepository.findAllByTemplate(template).size()) {
+    private void validateSnippetsCount(UpdateTemplateRequest updateTemplateRequest, int remainingSnippetsCount) {
+        if (updateTemplateRequest.updateSnippets().size() != remainingSnippetsCount) {
             throw new CodeZapException(HttpStatus.BAD_REQUEST, "스니펫의 정보가 정확하지 않습니다.");
         }
     }
 
     @Transactional
     public void deleteById(Long id, MemberDto memberDto) {
-        Member member = memberRepository.fetchById(memberDto.id());
-        Template template = templateRepository.fetchById(id);
-        validateTemplateAuthorizeMember(template, member);
+        deleteByIds(List.of(id), memberDto);
+    }
 
-        thumbnailSnippetRepository.deleteByTemplateId(id);
-        snippetRepository.deleteByTemplateId(id);
-        templateTagRepository.deleteAllByTemplateId(id);
-        templateRepository.deleteById(id);
+    @Transactional
+    public void deleteByIds(List<Long> ids, MemberDto memberDto) {
+        Set<Long> templateIds = new LinkedHashSet<>(ids);
+        validateDeleteSize(templateIds);
+        validateTemplatesAuthorizeMember(templateIds, memberDto);
+        List<TargetCount> categoryCounts = templateRepository.findCategoryCountsByIdIn(templateIds);
+        List<TargetCount> tagCounts = templateTagRepository.findTagCountsByTemplateIdIn(templateIds);
+
+        thumbnailSnippetRepository.deleteAllByTemplateIdIn(templateIds);
+        snippetRepository.deleteAllByTemplateIdIn(templateIds);
+        templateTagRepository.deleteAllByTemplateIdIn(templateIds);
+        templateRepository.deleteAllByIdInBatch(templateIds);
+        templateCounter.countDeleted(memberDto.id(), templateIds.size(), categoryCounts, tagCounts);
+        templateSearchEngine.remove(memberDto.id(), templateIds);
+        tagTemplateIndex.remove(memberDto.id(), templateIds);
+        invalidationBus.publish(EntityType.TEMPLATE, templateIds);
     }
 
-    private CodeZapException throwNotFoundSnippet() {
-        throw new CodeZapException(HttpStatus.NOT_FOUND, "해당하는 스니펫이 존재하지 않습니다.");
+    private void validateDeleteSize(Set<Long> templateIds) {
+        if (templateIds.isEmpty() || templateIds.size() > MAX_DELETE_SIZE) {
+            throw new CodeZapException(HttpStatus.BAD_REQUEST,
+                    "삭제할 템플릿은 1개 이상 " + MAX_DELETE_SIZE + "개 이하로 입력해주세요.");
+        }
     }
 
-    private CodeZapException throwNotFoundTag() {
-        throw new CodeZapException(HttpStatus.NOT_FOUND, "해당하는 태그가 존재하지 않습니다.");
+    private void validateTemplatesAuthorizeMember(Set<Long> templateIds, MemberDto memberDto) {
+        Set<Long> ownedIds = new HashSet<>(templateRepository.findIdsByMemberIdAndIdIn(memberDto.id(), templateIds));
+        templateIds.stream()
+                .filter(id -> !ownedIds.contains(id))
+                .findFirst()
+                .ifPresent(id -> {
+                    throw notFoundOrUnauthorizedTemplate(id);
+                });
+    }
+
+    private CodeZapException throwNotFoundSnippet() {
+        throw new CodeZapException(HttpStatus.NOT_FOUND, "해당하는 스니펫이 존재하지 않습니다.");
     }
 
     private CodeZapException throwNotFoundThumbnailSnippet() {
         throw new CodeZapException(HttpStatus.NOT_FOUND, "해당하는 썸네일 스니펫이 존재하지 않습니다.");
     }
 
+    @Transactional(readOnly = true)
     public FindAllTagsResponse findAllTagsByMemberId(Long memberId) {
-        List<Template> byMemberId = templateRepository.findByMemberId(memberId);
-        List<TemplateTag> templateTags = templateTagRepository.findByTemplateIn(byMemberId);
-        return new FindAllTagsResponse(
-                templateTags.stream()
-                        .map(TemplateTag::getTag)
-                        .distinct()
-                        .map(FindTagResponse::from)
-                        .toList()
-        );
+        return FindAllTagsResponse.from(templateCounter.findTagCounts(memberId));
     }
 }
@@ -0,0 +1,117 @@
+package codezap.template.service;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import jakarta.annotation.PreDestroy;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import codezap.global.invalidation.EntityType;
+import codezap.global.invalidation.InvalidationBus;
+import codezap.template.domain.ThumbnailSnippet;
+import codezap.template.repository.ThumbnailSnippetRepository;
+import codezap.template.repository.ThumbnailSnippetSource;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@Component
+public class ThumbnailSnippetBackfiller {
+
+    private static final String THREAD_NAME = "thumbnail-snippet-backfiller";
+
+    private final ThumbnailSnippetRepository thumbnailSnippetRepository;
+    private final SnippetContentMigrator snippetContentMigrator;
+    private final InvalidationBus invalidationBus;
+    private final TransactionTemplate transactionTemplate;
+    private final boolean enabled;
+    private final int batchSize;
+    private final Duration interval;
+
+    private ScheduledExecutorService executor;
+
+    public ThumbnailSnippetBackfiller(
+            ThumbnailSnippetRepository thumbnailSnippetRepository,
+            SnippetContentMigrator snippetContentMigrator,
+            InvalidationBus invalidationBus,
+            PlatformTransactionManager transactionManager,
+            @Value("${codezap.thumbnail.backfill.enabled:true}") boolean enabled,
+            @Value("${codezap.thumbnail.backfill.batch-size:100}") int batchSize,
+            @Value("${codezap.thumbnail.backfill.interval:1s}") Duration interval
+    ) {
+        this.thumbnailSnippetRepository = thumbnailSnippetRepository;
+        this.snippetContentMigrator = snippetContentMigrator;
+        this.invalidationBus = invalidationBus;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.enabled = enabled;
+        this.batchSize = batchSize;
+        this.interval = interval;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (!enabled) {
+            return;
+        }
+        executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, THREAD_NAME);
+            thread.setDaemon(true);
+            return thread;
+        });
+        executor.scheduleWithFixedDelay(this::backfillSafely, 0, interval.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    private void backfillSafely() {
+        if (!snippetContentMigrator.isCompleted()) {
+            return;
+        }
+        try {
+            if (backfillBatch() == 0) {
+                log.info("썸네일 스니펫 정보 채우기가 완료되었습니다.");
+                executor.shutdown();
+            }
+        } catch (RuntimeException e) {
+            log.warn("썸네일 스니펫 정보 채우기 실패", e);
+        }
+    }
+
+    public int backfillBatch() {
+        return transactionTemplate.execute(status -> {
+            List<ThumbnailSnippetSource> sources = thumbnailSnippetRepository.findSourcesByThumbnailContentIsNull(
+                    PageRequest.ofSize(batchSize));
+            if (sources.isEmpty()) {
+                return 0;
+            }
+            sources.forEach(this::fill);
+            invalidationBus.publish(EntityType.TEMPLATE, sources.stream()
+                    .map(ThumbnailSnippetSource::templateId)
+                    .toList());
+            return sources.size();
+        });
+    }
+
+    private void fill(ThumbnailSnippetSource source) {
+        thumbnailSnippetRepository.fill(
+                source.id(),
+                source.title(),
+                source.filename(),
+                ThumbnailSnippet.extractThumbnailContent(source.content().text())
+        );
+    }
+
+    @PreDestroy
+    public void close() {
+        if (executor != null) {
+            executor.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,176 @@
+package codezap.global.datasource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+
+import jakarta.servlet.http.Cookie;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+class ReadWriteRoutingDataSourceTest {
+
+    private static final Instant NOW = Instant.parse("2024-08-01T00:00:00Z");
+
+    private ReplicationLagGuard replicationLagGuard;
+    private MockHttpServletResponse response;
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate writeTransaction;
+    private TransactionTemplate readOnlyTransaction;
+
+    @BeforeEach
+    void setUp() {
+        replicationLagGuard = new ReplicationLagGuard(Duration.ofSeconds(5), Clock.fixed(NOW, ZoneOffset.UTC));
+        DataSource dataSource = new LazyConnectionDataSourceProxy(DataSourceRoutingConfiguration.routingDataSource(
+                node("routing_primary"), node("routing_replica"), replicationLagGuard));
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(dataSource);
+        writeTransaction = new TransactionTemplate(transactionManager);
+        readOnlyTransaction = new TransactionTemplate(transactionManager);
+        readOnlyTransaction.setReadOnly(true);
+        startRequest();
+    }
+
+    @AfterEach
+    void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    private DataSource node(String name) {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:" + name + ";DB_CLOSE_DELAY=-1", "sa", "");
+        JdbcTemplate template = new JdbcTemplate(dataSource);
+        template.execute("CREATE TABLE IF NOT EXISTS node (name VARCHAR(20))");
+        template.execute("DELETE FROM node");
+        template.update("INSERT INTO node (name) VALUES (?)", name);
+        return dataSource;
+    }
+
+    private void startRequest(Cookie... cookies) {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        if (cookies.length > 0) {
+            request.setCookies(cookies);
+        }
+        response = new MockHttpServletResponse();
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request, response));
+    }
+
+    private String currentNode(TransactionTemplate transaction) {
+        return transaction.execute(status -> jdbcTemplate.queryForObject("SELECT name FROM node", String.class));
+    }
+
+    private void write() {
+        writeTransaction.executeWithoutResult(status -> touchNode());
+    }
+
+    private void touchNode() {
+        jdbcTemplate.update("UPDATE node SET name = ?", "routing_primary");
+    }
+
+    @Test
+    @DisplayName("읽기 전용 트랜잭션은 레플리카, 쓰기 트랜잭션은 프라이머리로 라우팅")
+    void routeByReadOnly() {
+        assertThat(currentNode(readOnlyTransaction)).isEqualTo("routing_replica");
+        assertThat(currentNode(writeTransaction)).isEqualTo("routing_primary");
+    }
+
+    @Test
+    @DisplayName("쓰기 직후 같은 요청의 읽기 전용 트랜잭션은 프라이머리로 라우팅")
+    void readYourWritesInSameRequest() {
+        write();
+
+        assertThat(currentNode(readOnlyTransaction)).isEqualTo("routing_primary");
+    }
+
+    @Test
+    @DisplayName("쓰기 후 마지막 쓰기 쿠키를 보낸 다음 요청의 읽기 전용 트랜잭션은 프라이머리로 라우팅")
+    void readYourWritesInNextRequest() {
+        write();
+        Cookie lastWrite = response.getCookie(ReplicationLagGuard.LAST_WRITE_COOKIE);
+
+        startRequest(lastWrite);
+
+        assertThat(currentNode(readOnlyTransaction)).isEqualTo("routing_primary");
+    }
+
+    @Test
+    @DisplayName("아무것도 쓰지 않은 쓰기 트랜잭션은 마지막 쓰기로 기록하지 않음")
+    void writeTransactionWithoutWriteReadsReplica() {
+        currentNode(writeTransaction);
+
+        assertAll(
+                () -> assertThat(response.getCookie(ReplicationLagGuard.LAST_WRITE_COOKIE)).isNull(),
+                () -> assertThat(currentNode(readOnlyTransaction)).isEqualTo("routing_replica")
+        );
+    }
+
+    @Test
+    @DisplayName("롤백된 쓰기 트랜잭션은 마지막 쓰기로 기록하지 않음")
+    void rolledBackWriteReadsReplica() {
+        writeTransaction.executeWithoutResult(status -> {
+            touchNode();
+            status.setRollbackOnly();
+        });
+
+        assertAll(
+                () -> assertThat(response.getCookie(ReplicationLagGuard.LAST_WRITE_COOKIE)).isNull(),
+                () -> assertThat(currentNode(readOnlyTransaction)).isEqualTo("routing_replica")
+        );
+    }
+
+    @Test
+    @DisplayName("요청 밖에서 커밋된 쓰기는 쿠키를 남기지 않음")
+    void writeWithoutRequestLeavesNoCookie() {
+        RequestContextHolder.resetRequestAttributes();
+
+        write();
+
+        assertThat(response.getCookie(ReplicationLagGuard.LAST_WRITE_COOKIE)).isNull();
+    }
+
+    @Test
+    @DisplayName("유지 시간이 지난 마지막 쓰기 쿠키는 라우팅에 영향 없음")
+    void expiredLastWriteReadsReplica() {
+        String writtenAt = String.valueOf(NOW.minusSeconds(5).toEpochMilli());
+
+        startRequest(new Cookie(ReplicationLagGuard.LAST_WRITE_COOKIE, writtenAt));
+
+        assertThat(currentNode(readOnlyTransaction)).isEqualTo("routing_replica");
+    }
+
+    @Test
+    @DisplayName("마지막 쓰기 쿠키가 없는 요청의 읽기 전용 트랜잭션은 레플리카로 라우팅")
+    void requestWithoutLastWriteReadsReplica() {
+        write();
+
+        startRequest();
+
+        assertThat(currentNode(readOnlyTransaction)).isEqualTo("routing_replica");
+    }
+
+    @Test
+    @DisplayName("프라이머리로 고정한 요청의 읽기 전용 트랜잭션은 프라이머리로 라우팅")
+    void pinnedRequestReadsPrimary() {
+        replicationLagGuard.pinPrimary();
+
+        assertThat(currentNode(readOnlyTransaction)).isEqualTo("routing_primary");
+    }
+}
@@ -0,0 +1,26 @@
+package codezap.global.encoding;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.NullSource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+class AcceptEncodingsTest {
+
+    @ParameterizedTest
+    @ValueSource(strings = {"gzip", "GZIP", "deflate, gzip", "gzip;q=0.5", "br;q=1.0, gzip; q=0.1", "*", "deflate, *;q=0.3"})
+    @DisplayName("gzip 또는 와일드카드를 0보다 큰 품질 값으로 허용하면 gzip 응답 가능")
+    void acceptsGzip(String acceptEncoding) {
+        assertThat(AcceptEncodings.acceptsGzip(acceptEncoding)).isTrue();
+    }
+
+    @ParameterizedTest
+    @NullSource
+    @ValueSource(strings = {"", "deflate, br", "gzip;q=0", "gzip;q=0, *", "*, gzip;q=0.0", "*;q=0", "gzip;q=abc"})
+    @DisplayName("gzip을 명시적으로 q=0으로 거부하거나 허용하지 않으면 gzip 응답 불가")
+    void rejectsGzip(String acceptEncoding) {
+        assertThat(AcceptEncodings.acceptsGzip(acceptEncoding)).isFalse();
+    }
+}
@@ -0,0 +1,67 @@
+package codezap.global.id;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import codezap.CodeZapApplication;
+import codezap.template.domain.Tag;
+import codezap.template.repository.TagRepository;
+
+class PooledSequenceSeederTest {
+
+    private static final int ALLOCATION_SIZE = 50;
+    private static final long LEGACY_ROW_COUNT = 120;
+
+    @Test
+    @DisplayName("기존 식별자 이후부터 풀링된 시퀀스로 식별자를 발급")
+    void seedSequenceFromMaxId() {
+        try (ConfigurableApplicationContext schema = start("create")) {
+            JdbcTemplate jdbcTemplate = schema.getBean(JdbcTemplate.class);
+            LongStream.rangeClosed(1, LEGACY_ROW_COUNT).forEach(id -> jdbcTemplate.update(
+                    "INSERT INTO tag (id, name, created_at, modified_at) VALUES (?, ?, NOW(), NOW())",
+                    id, "legacy" + id));
+        }
+
+        List<Long> firstNodeIds;
+        List<Long> secondNodeIds;
+        try (ConfigurableApplicationContext firstNode = start("none")) {
+            firstNodeIds = saveTags(firstNode, "first", 60);
+            try (ConfigurableApplicationContext secondNode = start("none")) {
+                secondNodeIds = saveTags(secondNode, "second", 10);
+            }
+        }
+
+        assertThat(firstNodeIds).containsExactlyElementsOf(
+                LongStream.rangeClosed(LEGACY_ROW_COUNT + 1, LEGACY_ROW_COUNT + 60).boxed().toList());
+        assertThat(secondNodeIds).allMatch(id -> id > LEGACY_ROW_COUNT + 2 * ALLOCATION_SIZE)
+                .doesNotHaveDuplicates();
+    }
+
+    private List<Long> saveTags(ConfigurableApplicationContext context, String prefix, int count) {
+        TagRepository tagRepository = context.getBean(TagRepository.class);
+        return IntStream.rangeClosed(1, count)
+                .mapToObj(index -> tagRepository.save(new Tag(prefix + index)).getId())
+                .toList();
+    }
+
+    private ConfigurableApplicationContext start(String ddlAuto) {
+        return new SpringApplicationBuilder(CodeZapApplication.class)
+                .web(WebApplicationType.NONE)
+                .run(
+                        "--spring.datasource.username=sa",
+                        "--spring.datasource.url=jdbc:h2:mem:sequence;DB_CLOSE_DELAY=-1",
+                        "--spring.jpa.hibernate.ddl-auto=" + ddlAuto,
+                        "--spring.jpa.properties.codezap.id.allocation-size=" + ALLOCATION_SIZE
+                );
+    }
+}
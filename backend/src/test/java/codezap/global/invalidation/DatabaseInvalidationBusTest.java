@@ -0,0 +1,126 @@
+package codezap.global.invalidation;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import codezap.CodeZapApplication;
+import codezap.category.domain.Category;
+import codezap.category.repository.CategoryRepository;
+import codezap.member.domain.Member;
+import codezap.member.dto.MemberDto;
+import codezap.member.repository.MemberJpaRepository;
+import codezap.template.dto.request.CreateSnippetRequest;
+import codezap.template.dto.request.CreateTemplateRequest;
+import codezap.template.dto.response.ExploreTemplatesResponse;
+import codezap.template.search.TemplateSearchEngine;
+import codezap.template.service.ExplorePayloadCache;
+import codezap.template.service.TemplateService;
+
+class DatabaseInvalidationBusTest {
+
+    private static final long TIMEOUT_MILLIS = 5000;
+
+    private ConfigurableApplicationContext publisher;
+    private ConfigurableApplicationContext peer;
+    private final AtomicInteger loadCount = new AtomicInteger();
+    private final Supplier<ExploreTemplatesResponse> loader = () -> {
+        loadCount.incrementAndGet();
+        return new ExploreTemplatesResponse(List.of(), null);
+    };
+
+    @BeforeEach
+    void setUp() {
+        publisher = start("create");
+        peer = start("none");
+    }
+
+    @AfterEach
+    void tearDown() {
+        peer.close();
+        publisher.close();
+    }
+
+    private ConfigurableApplicationContext start(String ddlAuto) {
+        return new SpringApplicationBuilder(CodeZapApplication.class)
+                .web(WebApplicationType.NONE)
+                .run(
+                        "--spring.datasource.username=sa",
+                        "--spring.datasource.url=jdbc:h2:mem:invalidation;DB_CLOSE_DELAY=-1",
+                        "--spring.jpa.hibernate.ddl-auto=" + ddlAuto,
+                        "--codezap.invalidation.polling.enabled=true",
+                        "--codezap.invalidation.polling.interval=100ms",
+                        "--codezap.search.index.revalidate-interval=1h"
+                );
+    }
+
+    @Test
+    @DisplayName("한 노드에서 커밋한 템플릿 변경을 다른 노드의 캐시에서 제거")
+    void invalidatePeerCache() throws InterruptedException {
+        ExplorePayloadCache peerCache = peer.getBean(ExplorePayloadCache.class);
+        peerCache.get(null, 20, loader);
+        peerCache.get(null, 20, loader);
+
+        publisher.getBean(TransactionTemplate.class).executeWithoutResult(status ->
+                publisher.getBean(InvalidationBus.class).publish(EntityType.TEMPLATE, 1L));
+
+        awaitUntil(() -> {
+            peerCache.get(null, 20, loader);
+            return loadCount.get() == 2;
+        });
+        assertThat(loadCount).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("한 노드에서 커밋한 템플릿 변경을 다른 노드의 검색 색인에서 제거")
+    void invalidatePeerSearchIndex() throws InterruptedException {
+        Member member = publisher.getBean(MemberJpaRepository.class)
+                .save(new Member("code@zap.com", "password", "zappy"));
+        Category category = publisher.getBean(CategoryRepository.class).save(new Category("category", member));
+        TemplateSearchEngine peerSearchEngine = peer.getBean(TemplateSearchEngine.class);
+        peerSearchEngine.search(member.getId(), "alpha");
+
+        Long templateId = publisher.getBean(TemplateService.class).createTemplate(new CreateTemplateRequest(
+                "템플릿",
+                "설명",
+                List.of(new CreateSnippetRequest("Main.java", "alphaValue", 1)),
+                category.getId(),
+                List.of()
+        ), MemberDto.fromId(member.getId()));
+
+        awaitUntil(() -> peerSearchEngine.search(member.getId(), "alpha").contains(templateId));
+        assertThat(peerSearchEngine.search(member.getId(), "alpha")).containsExactly(templateId);
+    }
+
+    @Test
+    @DisplayName("롤백된 트랜잭션의 변경은 기록하지 않음")
+    void ignoreRolledBackChange() {
+        publisher.getBean(TransactionTemplate.class).executeWithoutResult(status -> {
+            publisher.getBean(InvalidationBus.class).publish(EntityType.TEMPLATE, 1L);
+            status.setRollbackOnly();
+        });
+
+        assertThat(publisher.getBean(CacheChangeLogRepository.class).findMaxId())
+                .isEqualTo(peer.getBean(CacheChangeLogRepository.class).findMaxId())
+                .isZero();
+    }
+
+    private void awaitUntil(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + TIMEOUT_MILLIS;
+        while (!condition.getAsBoolean() && System.currentTimeMillis() < deadline) {
+            Thread.sleep(50);
+        }
+    }
+}
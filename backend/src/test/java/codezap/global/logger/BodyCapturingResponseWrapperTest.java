@@ -0,0 +1,90 @@
+package codezap.global.logger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.nio.charset.StandardCharsets;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+class BodyCapturingResponseWrapperTest {
+
+    private MockHttpServletResponse response;
+
+    @BeforeEach
+    void setUp() {
+        response = new MockHttpServletResponse();
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+    }
+
+    @Test
+    @DisplayName("스트림으로 쓴 응답은 모두 전달하고 제한한 크기까지만 저장")
+    void captureOutputStreamUpToLimit() throws IOException {
+        BodyCapturingResponseWrapper wrapper = new BodyCapturingResponseWrapper(response, 4);
+
+        wrapper.getOutputStream().write("0123456789".getBytes(StandardCharsets.UTF_8));
+        wrapper.getOutputStream().write('a');
+
+        assertAll(
+                () -> assertThat(response.getContentAsString()).isEqualTo("0123456789a"),
+                () -> assertThat(wrapper.getCapturedBody()).isEqualTo("0123".getBytes(StandardCharsets.UTF_8))
+        );
+    }
+
+    @Test
+    @DisplayName("Writer로 쓴 응답은 응답 인코딩으로 저장")
+    void captureWriter() throws IOException {
+        BodyCapturingResponseWrapper wrapper = new BodyCapturingResponseWrapper(response, 1024);
+
+        PrintWriter writer = wrapper.getWriter();
+        writer.write("응답 바디");
+        writer.flush();
+
+        assertAll(
+                () -> assertThat(response.getContentAsString()).isEqualTo("응답 바디"),
+                () -> assertThat(new String(wrapper.getCapturedBody(), StandardCharsets.UTF_8)).isEqualTo("응답 바디")
+        );
+    }
+
+    @Test
+    @DisplayName("Writer로 쓴 응답도 제한한 글자 수까지만 저장")
+    void captureWriterUpToLimit() throws IOException {
+        BodyCapturingResponseWrapper wrapper = new BodyCapturingResponseWrapper(response, 3);
+
+        PrintWriter writer = wrapper.getWriter();
+        writer.write("abcdef");
+        writer.flush();
+
+        assertThat(new String(wrapper.getCapturedBody(), StandardCharsets.UTF_8)).isEqualTo("abc");
+    }
+
+    @Test
+    @DisplayName("응답 버퍼를 초기화하면 저장한 바디도 비움")
+    void clearCapturedBodyOnReset() throws IOException {
+        BodyCapturingResponseWrapper wrapper = new BodyCapturingResponseWrapper(response, 1024);
+        wrapper.getOutputStream().write("partial".getBytes(StandardCharsets.UTF_8));
+
+        wrapper.resetBuffer();
+        wrapper.getOutputStream().write("error".getBytes(StandardCharsets.UTF_8));
+
+        assertThat(wrapper.getCapturedBody()).isEqualTo("error".getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    @DisplayName("응답 전체를 초기화하면 Writer로 저장한 바디도 비움")
+    void clearCapturedCharactersOnReset() throws IOException {
+        BodyCapturingResponseWrapper wrapper = new BodyCapturingResponseWrapper(response, 1024);
+        PrintWriter writer = wrapper.getWriter();
+        writer.write("partial");
+        writer.flush();
+
+        wrapper.reset();
+
+        assertThat(wrapper.getCapturedBody()).isEmpty();
+    }
+}
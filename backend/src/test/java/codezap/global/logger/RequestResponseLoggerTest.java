@@ -0,0 +1,141 @@
+package codezap.global.logger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletResponse;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+class RequestResponseLoggerTest {
+
+    private final RecordingAccessLogWriter accessLogWriter = new RecordingAccessLogWriter();
+
+    @AfterEach
+    void tearDown() {
+        accessLogWriter.close();
+    }
+
+    @Test
+    @DisplayName("샘플링되지 않은 정상 응답은 바디 없이 기록")
+    void writeWithoutBodyWhenNotSampled() throws ServletException, IOException {
+        RequestResponseLogger logger = new RequestResponseLogger(accessLogWriter, 0, 1024);
+
+        logger.doFilter(createRequest(), new MockHttpServletResponse(), respond(200, "ok"));
+
+        AccessLog accessLog = accessLogWriter.single();
+        assertAll(
+                () -> assertThat(accessLog.status()).isEqualTo(200),
+                () -> assertThat(accessLog.hasBody()).isFalse()
+        );
+    }
+
+    @Test
+    @DisplayName("샘플링된 정상 응답은 바디와 함께 기록")
+    void writeWithBodyWhenSampled() throws ServletException, IOException {
+        RequestResponseLogger logger = new RequestResponseLogger(accessLogWriter, 1, 1024);
+
+        logger.doFilter(createRequest(), new MockHttpServletResponse(), respond(200, "ok"));
+
+        assertThat(accessLogWriter.single().responseBody()).isEqualTo("ok".getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    @DisplayName("에러 응답은 샘플링과 관계없이 바디와 함께 기록")
+    void writeWithBodyWhenErrorStatus() throws ServletException, IOException {
+        RequestResponseLogger logger = new RequestResponseLogger(accessLogWriter, 0, 1024);
+
+        logger.doFilter(createRequest(), new MockHttpServletResponse(), respond(404, "not found"));
+
+        AccessLog accessLog = accessLogWriter.single();
+        assertAll(
+                () -> assertThat(accessLog.status()).isEqualTo(404),
+                () -> assertThat(accessLog.responseBody()).isEqualTo("not found".getBytes(StandardCharsets.UTF_8))
+        );
+    }
+
+    @Test
+    @DisplayName("처리 중 예외가 전파되면 500으로 바디와 함께 기록")
+    void writeFailedStatusWhenExceptionPropagates() {
+        RequestResponseLogger logger = new RequestResponseLogger(accessLogWriter, 0, 1024);
+        FilterChain failingChain = (request, response) -> {
+            throw new IllegalStateException("failed");
+        };
+
+        assertThatThrownBy(() -> logger.doFilter(createRequest(), new MockHttpServletResponse(), failingChain))
+                .isInstanceOf(IllegalStateException.class);
+
+        AccessLog accessLog = accessLogWriter.single();
+        assertAll(
+                () -> assertThat(accessLog.status()).isEqualTo(500),
+                () -> assertThat(accessLog.hasBody()).isTrue()
+        );
+    }
+
+    @Test
+    @DisplayName("인증 정보가 담긴 헤더는 가려서 기록")
+    void redactSensitiveHeaders() throws ServletException, IOException {
+        RequestResponseLogger logger = new RequestResponseLogger(accessLogWriter, 1, 1024);
+        MockHttpServletRequest request = createRequest();
+        request.addHeader(HttpHeaders.AUTHORIZATION, "Basic secret");
+        request.addHeader(HttpHeaders.COOKIE, "credential=secret");
+        request.addHeader(HttpHeaders.ACCEPT, "application/json");
+        FilterChain chain = (servletRequest, servletResponse) ->
+                ((HttpServletResponse) servletResponse).addHeader(HttpHeaders.SET_COOKIE, "credential=secret");
+
+        logger.doFilter(request, new MockHttpServletResponse(), chain);
+
+        AccessLog accessLog = accessLogWriter.single();
+        assertAll(
+                () -> assertThat(accessLog.requestHeaders())
+                        .containsEntry(HttpHeaders.AUTHORIZATION, "[REDACTED]")
+                        .containsEntry(HttpHeaders.COOKIE, "[REDACTED]")
+                        .containsEntry(HttpHeaders.ACCEPT, "application/json"),
+                () -> assertThat(accessLog.responseHeaders())
+                        .containsEntry(HttpHeaders.SET_COOKIE, "[REDACTED]")
+        );
+    }
+
+    private MockHttpServletRequest createRequest() {
+        return new MockHttpServletRequest("GET", "/templates");
+    }
+
+    private FilterChain respond(int status, String body) {
+        return (request, response) -> {
+            ((HttpServletResponse) response).setStatus(status);
+            response.getOutputStream().write(body.getBytes(StandardCharsets.UTF_8));
+        };
+    }
+
+    private static class RecordingAccessLogWriter extends AccessLogWriter {
+
+        private final List<AccessLog> accessLogs = new ArrayList<>();
+
+        private RecordingAccessLogWriter() {
+            super(1);
+        }
+
+        @Override
+        public void write(AccessLog accessLog) {
+            accessLogs.add(accessLog);
+        }
+
+        private AccessLog single() {
+            assertThat(accessLogs).hasSize(1);
+            return accessLogs.get(0);
+        }
+    }
+}
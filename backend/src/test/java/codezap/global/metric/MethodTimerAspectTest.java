@@ -0,0 +1,73 @@
+package codezap.global.metric;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+
+import io.micrometer.core.annotation.Timed;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class MethodTimerAspectTest {
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    @DisplayName("@Timed 클래스의 메서드 실행 시간을 메서드별 Timer에 기록")
+    void recordTimedMethod() {
+        TimedService timedService = createProxy(new TimedService());
+
+        timedService.first();
+        timedService.first();
+        timedService.second();
+
+        assertAll(
+                () -> assertThat(findTimer("first").count()).isEqualTo(2),
+                () -> assertThat(findTimer("second").count()).isEqualTo(1)
+        );
+    }
+
+    @Test
+    @DisplayName("@Timed가 없는 클래스는 기록하지 않음")
+    void ignoreNotTimedMethod() {
+        NotTimedService notTimedService = createProxy(new NotTimedService());
+
+        notTimedService.call();
+
+        assertThat(meterRegistry.find("method.timed").timers()).isEmpty();
+    }
+
+    private <T> T createProxy(T target) {
+        AspectJProxyFactory proxyFactory = new AspectJProxyFactory(target);
+        proxyFactory.setProxyTargetClass(true);
+        proxyFactory.addAspect(new MethodTimerAspect(meterRegistry));
+        return proxyFactory.getProxy();
+    }
+
+    private Timer findTimer(String methodName) {
+        return meterRegistry.get("method.timed")
+                .tag("class", TimedService.class.getSimpleName())
+                .tag("method", methodName)
+                .timer();
+    }
+
+    @Timed
+    static class TimedService {
+
+        public void first() {
+        }
+
+        public void second() {
+        }
+    }
+
+    static class NotTimedService {
+
+        public void call() {
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package codezap.global.metric.sql;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.MDC;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.method.HandlerMethod;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class SqlMetricInterceptorTest {
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final SqlMetricInterceptor interceptor = new SqlMetricInterceptor(meterRegistry, 2, 10);
+    private final MockHttpServletRequest request = new MockHttpServletRequest();
+    private final MockHttpServletResponse response = new MockHttpServletResponse();
+
+    private JdbcTemplate jdbcTemplate;
+    private HandlerMethod handler;
+
+    @BeforeEach
+    void setUp() throws NoSuchMethodException {
+        jdbcTemplate = new JdbcTemplate(new SqlMetricDataSource(
+                new DriverManagerDataSource("jdbc:h2:mem:sql_metric;DB_CLOSE_DELAY=-1", "sa", "")));
+        jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS item (id BIGINT)");
+        jdbcTemplate.execute("DELETE FROM item");
+        jdbcTemplate.update("INSERT INTO item (id) VALUES (1), (2), (3)");
+        handler = new HandlerMethod(new SampleController(), SampleController.class.getMethod("find"));
+    }
+
+    @AfterEach
+    void tearDown() {
+        MDC.clear();
+    }
+
+    @Test
+    @DisplayName("요청 동안 실행된 쿼리 수와 조회 행 수를 핸들러별로 기록")
+    void recordStatementsPerHandler() {
+        interceptor.preHandle(request, response, handler);
+        jdbcTemplate.queryForList("SELECT id FROM item", Long.class);
+        jdbcTemplate.update("UPDATE item SET id = id + 1 WHERE id = ?", 1L);
+        interceptor.afterCompletion(request, response, handler, null);
+
+        assertAll(
+                () -> assertThat(meterRegistry.get("http.server.sql.statements")
+                        .tag("handler", "SampleController.find").summary().totalAmount()).isEqualTo(2),
+                () -> assertThat(meterRegistry.get("http.server.sql.rows")
+                        .tag("handler", "SampleController.find").summary().totalAmount()).isEqualTo(3),
+                () -> assertThat(meterRegistry.get("http.server.sql.time")
+                        .tag("handler", "SampleController.find").timer().count()).isEqualTo(1),
+                () -> assertThat(MDC.get(SqlMetricInterceptor.SQL_COUNT)).isEqualTo("2"),
+                () -> assertThat(MDC.get(SqlMetricInterceptor.SQL_ROWS)).isEqualTo("3")
+        );
+    }
+
+    @Test
+    @DisplayName("요청 밖에서 실행된 쿼리는 기록하지 않음")
+    void ignoreStatementsOutsideRequest() {
+        jdbcTemplate.queryForList("SELECT id FROM item", Long.class);
+
+        interceptor.preHandle(request, response, handler);
+        interceptor.afterCompletion(request, response, handler, null);
+
+        assertThat(meterRegistry.get("http.server.sql.statements").summary().totalAmount()).isZero();
+    }
+
+    @Test
+    @DisplayName("쿼리 예산을 초과한 요청의 쿼리를 설정한 개수까지 보관")
+    void keepStatementsUpToLimit() {
+        SqlStatistics.start(2);
+        for (int i = 0; i < 3; i++) {
+            jdbcTemplate.queryForList("SELECT id FROM item WHERE id = ?", Long.class, i);
+        }
+        SqlStatistics statistics = SqlStatistics.end();
+
+        assertAll(
+                () -> assertThat(statistics.count()).isEqualTo(3),
+                () -> assertThat(statistics.statements()).containsExactly(
+                        "SELECT id FROM item WHERE id = ?", "SELECT id FROM item WHERE id = ?")
+        );
+    }
+
+    static class SampleController {
+
+        public void find() {
+        }
+    }
+}
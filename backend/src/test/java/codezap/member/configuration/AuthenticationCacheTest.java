@@ -0,0 +1,73 @@
+package codezap.member.configuration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import codezap.member.dto.MemberDto;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class AuthenticationCacheTest {
+
+    private static final MemberDto MEMBER = new MemberDto(1L, "code@zap.com", "pw1234", "zappy");
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final AuthenticationCache authenticationCache = new AuthenticationCache(100, Duration.ofMinutes(5), meterRegistry);
+    private final AtomicInteger authorizeCount = new AtomicInteger();
+
+    @Test
+    @DisplayName("같은 인증 정보는 한 번만 인증하고 캐시 적중 횟수를 기록")
+    void getCachedMember() {
+        authenticationCache.get("credential", this::authorize);
+        MemberDto cached = authenticationCache.get("credential", this::authorize);
+
+        assertAll(
+                () -> assertThat(cached).isEqualTo(new MemberDto(1L, null, null, "zappy")),
+                () -> assertThat(authorizeCount).hasValue(1),
+                () -> assertThat(countGets("hit")).isEqualTo(1),
+                () -> assertThat(countGets("miss")).isEqualTo(1)
+        );
+    }
+
+    @Test
+    @DisplayName("캐시에는 회원 식별자와 사용자명만 저장하고 이메일과 비밀번호는 저장하지 않음")
+    void getCachedMemberWithoutSecrets() {
+        MemberDto authorized = authenticationCache.get("credential", this::authorize);
+
+        assertAll(
+                () -> assertThat(authorized.id()).isEqualTo(MEMBER.id()),
+                () -> assertThat(authorized.username()).isEqualTo(MEMBER.username()),
+                () -> assertThat(authorized.email()).isNull(),
+                () -> assertThat(authorized.password()).isNull()
+        );
+    }
+
+    @Test
+    @DisplayName("회원 정보가 바뀌면 해당 회원의 캐시를 제거")
+    void evictByMemberId() {
+        authenticationCache.get("credential", this::authorize);
+
+        authenticationCache.evict(MEMBER.id());
+        authenticationCache.get("credential", this::authorize);
+
+        assertThat(authorizeCount).hasValue(2);
+    }
+
+    private MemberDto authorize(String credential) {
+        authorizeCount.incrementAndGet();
+        return MEMBER;
+    }
+
+    private double countGets(String result) {
+        return meterRegistry.get("cache.gets")
+                .tag("result", result)
+                .functionCounter()
+                .count();
+    }
+}
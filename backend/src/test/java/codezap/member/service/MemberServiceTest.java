@@ -5,6 +5,8 @@ import static org.assertj.core.api.Assertions.assertThatCode;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Duration;
 import java.util.Base64;
 import java.util.stream.Stream;
 
@@ -19,20 +21,31 @@ import org.springframework.http.HttpHeaders;
 
 import codezap.category.repository.CategoryRepository;
 import codezap.category.repository.FakeCategoryRepository;
+import codezap.global.datasource.ReplicationLagGuard;
 import codezap.global.exception.CodeZapException;
+import codezap.global.invalidation.InvalidationBus;
+import codezap.global.invalidation.InvalidationEvent;
+import codezap.member.configuration.AuthenticationCache;
 import codezap.member.domain.Member;
 import codezap.member.dto.LoginRequest;
 import codezap.member.dto.MemberDto;
 import codezap.member.dto.SignupRequest;
 import codezap.member.repository.FakeMemberRepository;
 import codezap.member.repository.MemberRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 
 public class MemberServiceTest {
 
     private final MemberRepository memberRepository = new FakeMemberRepository();
     private final CategoryRepository categoryRepository = new FakeCategoryRepository();
-    private final AuthService authService = new AuthService(memberRepository);
-    private final MemberService sut = new MemberService(memberRepository, authService, categoryRepository);
+    private final AuthService authService = new AuthService(memberRepository,
+            new SessionTokenProvider(false, "", new String[0], Duration.ofDays(7), Clock.systemUTC()));
+    private final AuthenticationCache authenticationCache = new AuthenticationCache(
+            100, Duration.ofMinutes(5), new SimpleMeterRegistry());
+    private final InvalidationBus invalidationBus = (entityType, entityIds) -> entityIds.forEach(
+            entityId -> authenticationCache.invalidate(new InvalidationEvent(entityType, entityId, 0)));
+    private final MemberService sut = new MemberService(memberRepository, authService, categoryRepository,
+            new ReplicationLagGuard(Duration.ofSeconds(5)), invalidationBus);
 
     @Nested
     @DisplayName("이메일 중복 검사 테스트")
@@ -84,6 +97,25 @@ public class MemberServiceTest {
         }
     }
 
+    @Nested
+    @DisplayName("비밀번호 변경 테스트")
+    class ChangePasswordTest {
+
+        @Test
+        @DisplayName("비밀번호 변경 성공: 캐시된 이전 인증 정보로는 인증 실패")
+        void changePassword_reject_cached_credential() {
+            var member = memberRepository.save(new Member("code@zap.com", "password", "zappy"));
+            var credential = authService.issueCredential(MemberDto.from(member));
+            authenticationCache.get(credential, authService::authorizeByCredential);
+
+            sut.changePassword(MemberDto.from(member), "newPassword");
+
+            assertThatThrownBy(() -> authenticationCache.get(credential, authService::authorizeByCredential))
+                    .isInstanceOf(CodeZapException.class)
+                    .hasMessage("인증에 실패했습니다.");
+        }
+    }
+
     @Nested
     @DisplayName("회원가입 테스트")
     class SignupTest {
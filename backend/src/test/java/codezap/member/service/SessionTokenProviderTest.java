@@ -0,0 +1,81 @@
+package codezap.member.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import codezap.global.exception.CodeZapException;
+
+class SessionTokenProviderTest {
+
+    private static final Duration TTL = Duration.ofHours(1);
+    private static final Instant NOW = Instant.parse("2024-11-11T12:00:00Z");
+
+    private SessionTokenProvider provider(String secret, String... previousSecrets) {
+        return provider(NOW, secret, previousSecrets);
+    }
+
+    private SessionTokenProvider provider(Instant now, String secret, String... previousSecrets) {
+        return new SessionTokenProvider(true, secret, previousSecrets, TTL, Clock.fixed(now, ZoneOffset.UTC));
+    }
+
+    @Test
+    @DisplayName("발급한 토큰에서 회원 식별자 조회")
+    void issueAndVerify() {
+        SessionTokenProvider provider = provider("secret");
+
+        String token = provider.issue(1L);
+
+        assertThat(provider.isToken(token)).isTrue();
+        assertThat(provider.verify(token)).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("서명이 변조된 토큰은 인증 실패")
+    void verifyTampered() {
+        SessionTokenProvider provider = provider("secret");
+        String token = provider.issue(1L);
+
+        String tampered = "2" + token.substring(1);
+
+        assertThatThrownBy(() -> provider.verify(tampered))
+                .isInstanceOf(CodeZapException.class)
+                .hasMessage("인증에 실패했습니다.");
+    }
+
+    @Test
+    @DisplayName("만료된 토큰은 인증 실패")
+    void verifyExpired() {
+        String token = provider("secret").issue(1L);
+
+        SessionTokenProvider later = provider(NOW.plus(TTL).plusSeconds(1), "secret");
+
+        assertThatThrownBy(() -> later.verify(token))
+                .isInstanceOf(CodeZapException.class)
+                .hasMessage("인증에 실패했습니다.");
+    }
+
+    @Test
+    @DisplayName("교체 기간에는 이전 키로 서명한 토큰도 인증 성공")
+    void verifyWithPreviousSecret() {
+        String token = provider("old-secret").issue(1L);
+
+        assertThat(provider("new-secret", "old-secret").verify(token)).isEqualTo(1L);
+        assertThatThrownBy(() -> provider("new-secret").verify(token))
+                .isInstanceOf(CodeZapException.class)
+                .hasMessage("인증에 실패했습니다.");
+    }
+
+    @Test
+    @DisplayName("Basic 인증 값은 토큰으로 판단하지 않음")
+    void isNotToken() {
+        assertThat(provider("secret").isToken("Y29kZUB6YXAuY29tOnBhc3N3b3Jk")).isFalse();
+    }
+}
@@ -1,6 +1,9 @@
 package codezap.template.controller;
 
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.hasSize;
 import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
 
 import java.nio.charset.StandardCharsets;
 import java.util.List;
@@ -247,6 +250,125 @@ class TemplateControllerTest {
                     .statusCode(404)
                     .body("detail", is("식별자 1에 해당하는 템플릿이 존재하지 않습니다."));
         }
+
+        @Test
+        @DisplayName("템플릿 상세 조회 성공: 변경되지 않은 템플릿은 ETag로 304 응답")
+        void findOneTemplateNotModified() {
+            // given
+            MemberDto memberDto = MemberDtoFixture.getFirstMemberDto();
+            templateService.createTemplate(createTemplateRequestWithTwoSnippets("title"), memberDto);
+            String eTag = RestAssured.given()
+                    .cookie("Authorization", cookie)
+                    .get("/templates/1")
+                    .then()
+                    .header(HttpHeaders.CACHE_CONTROL, containsString("no-cache"))
+                    .extract().header(HttpHeaders.ETAG);
+
+            // when & then
+            RestAssured.given().log().all()
+                    .cookie("Authorization", cookie)
+                    .header(HttpHeaders.IF_NONE_MATCH, eTag)
+                    .get("/templates/1")
+                    .then().log().all()
+                    .statusCode(304)
+                    .header(HttpHeaders.ETAG, is(eTag));
+        }
+
+        @Test
+        @DisplayName("템플릿 상세 조회 성공: 수정된 템플릿은 이전 ETag로 조회해도 200 응답")
+        void findOneTemplateModifiedAfterUpdate() {
+            // given
+            MemberDto memberDto = MemberDtoFixture.getFirstMemberDto();
+            templateService.createTemplate(createTemplateRequestWithTwoSnippets("title"), memberDto);
+            String eTag = RestAssured.given()
+                    .cookie("Authorization", cookie)
+                    .get("/templates/1")
+                    .then()
+                    .extract().header(HttpHeaders.ETAG);
+            templateService.update(1L, new UpdateTemplateRequest(
+                    "title",
+                    "description",
+                    List.of(),
+                    List.of(
+                            new UpdateSnippetRequest(1L, "filename1", "updateContent1", 1),
+                            new UpdateSnippetRequest(2L, "filename2", "content2", 2)
+                    ),
+                    List.of(),
+                    1L,
+                    List.of("tag1", "tag2")
+            ), memberDto);
+
+            // when & then
+            RestAssured.given().log().all()
+                    .cookie("Authorization", cookie)
+                    .header(HttpHeaders.IF_NONE_MATCH, eTag)
+                    .get("/templates/1")
+                    .then().log().all()
+                    .statusCode(200)
+                    .header(HttpHeaders.ETAG, not(eTag))
+                    .body("snippets[0].content", is("updateContent1"));
+        }
+
+        @Test
+        @DisplayName("템플릿 탐색 성공: 변경되지 않은 목록은 ETag로 304 응답")
+        void exploreNotModified() {
+            // given
+            MemberDto memberDto = MemberDtoFixture.getFirstMemberDto();
+            templateService.createTemplate(createTemplateRequestWithTwoSnippets("title"), memberDto);
+            String eTag = RestAssured.given()
+                    .get("/templates/explore")
+                    .then()
+                    .header(HttpHeaders.CACHE_CONTROL, containsString("public"))
+                    .extract().header(HttpHeaders.ETAG);
+
+            // when & then
+            RestAssured.given().log().all()
+                    .header(HttpHeaders.IF_NONE_MATCH, eTag)
+                    .get("/templates/explore")
+                    .then().log().all()
+                    .statusCode(304);
+        }
+
+        @Test
+        @DisplayName("템플릿 탐색 성공: gzip을 허용하면 미리 압축한 본문 응답")
+        void exploreGzip() {
+            // given
+            MemberDto memberDto = MemberDtoFixture.getFirstMemberDto();
+            templateService.createTemplate(createTemplateRequestWithTwoSnippets("title"), memberDto);
+
+            // when & then
+            RestAssured.given().log().all()
+                    .header(HttpHeaders.ACCEPT_ENCODING, "gzip")
+                    .get("/templates/explore")
+                    .then().log().all()
+                    .statusCode(200)
+                    .header(HttpHeaders.CONTENT_ENCODING, "gzip")
+                    .header(HttpHeaders.VARY, containsString(HttpHeaders.ACCEPT_ENCODING))
+                    .body("templates[0].title", is("title"));
+        }
+
+        @Test
+        @DisplayName("템플릿 탐색 성공: 템플릿을 생성하면 캐시된 목록 갱신")
+        void exploreAfterCreate() {
+            // given
+            MemberDto memberDto = MemberDtoFixture.getFirstMemberDto();
+            templateService.createTemplate(createTemplateRequestWithTwoSnippets("title1"), memberDto);
+            RestAssured.given()
+                    .get("/templates/explore")
+                    .then()
+                    .body("templates", hasSize(1));
+
+            // when
+            templateService.createTemplate(createTemplateRequestWithTwoSnippets("title2"), memberDto);
+
+            // then
+            RestAssured.given().log().all()
+                    .get("/templates/explore")
+                    .then().log().all()
+                    .statusCode(200)
+                    .body("templates", hasSize(2))
+                    .body("templates[0].title", is("title2"));
+        }
     }
 
     @Nested
@@ -484,6 +606,40 @@ class TemplateControllerTest {
                     .then().log().all()
                     .statusCode(404);
         }
+
+        @Test
+        @DisplayName("템플릿 일괄 삭제 성공")
+        void deleteTemplatesSuccess() {
+            // given
+            MemberDto memberDto = MemberDtoFixture.getFirstMemberDto();
+            templateService.createTemplate(createTemplateRequestWithTwoSnippets("title1"), memberDto);
+            templateService.createTemplate(createTemplateRequestWithTwoSnippets("title2"), memberDto);
+
+            // when & then
+            RestAssured.given().log().all()
+                    .cookie("Authorization", cookie)
+                    .param("ids", "1,2")
+                    .delete("/templates")
+                    .then().log().all()
+                    .statusCode(204);
+        }
+
+        @Test
+        @DisplayName("템플릿 일괄 삭제 실패: 존재하지 않는 템플릿이 포함된 경우")
+        void deleteTemplatesFailWithNotFoundTemplate() {
+            // given
+            MemberDto memberDto = MemberDtoFixture.getFirstMemberDto();
+            templateService.createTemplate(createTemplateRequestWithTwoSnippets("title1"), memberDto);
+
+            // when & then
+            RestAssured.given().log().all()
+                    .cookie("Authorization", cookie)
+                    .param("ids", "1,2")
+                    .delete("/templates")
+                    .then().log().all()
+                    .statusCode(404)
+                    .body("detail", is("식별자 2에 해당하는 템플릿이 존재하지 않습니다."));
+        }
     }
 
     private static CreateTemplateRequest createTemplateRequestWithTwoSnippets(String title) {
@@ -0,0 +1,37 @@
+package codezap.template.domain;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class SnippetContentTest {
+
+    @Test
+    @DisplayName("기준 크기보다 작은 내용은 압축하지 않고 저장")
+    void keepSmallContentRaw() {
+        SnippetContent content = SnippetContent.of("class Main {}");
+
+        assertThat(content.encoded()[0]).isEqualTo(SnippetContent.RAW);
+        assertThat(SnippetContent.fromEncoded(content.encoded()).text()).isEqualTo("class Main {}");
+    }
+
+    @Test
+    @DisplayName("기준 크기 이상인 내용은 압축해 저장하고 그대로 복원")
+    void compressLargeContent() {
+        String text = "코드잽 class Main {}\n".repeat(SnippetContent.COMPRESSION_THRESHOLD_BYTES);
+
+        SnippetContent content = SnippetContent.of(text);
+
+        assertThat(content.encoded()[0]).isEqualTo(SnippetContent.DEFLATE);
+        assertThat(SnippetContent.fromEncoded(content.encoded()).text()).isEqualTo(text);
+    }
+
+    @Test
+    @DisplayName("알 수 없는 형식의 내용은 복원 실패")
+    void rejectUnknownFormat() {
+        assertThatThrownBy(() -> SnippetContent.fromEncoded(new byte[]{9, 1, 2}))
+                .isInstanceOf(IllegalStateException.class);
+    }
+}
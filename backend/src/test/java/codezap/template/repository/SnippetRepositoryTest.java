@@ -3,8 +3,11 @@ package codezap.template.repository;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertAll;
 
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 
+import jakarta.persistence.EntityManager;
+
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -23,6 +26,7 @@ import codezap.member.dto.MemberDto;
 import codezap.member.repository.MemberJpaRepository;
 import codezap.template.domain.Snippet;
 import codezap.template.domain.Template;
+import codezap.template.service.SnippetBodyStore;
 
 @SpringBootTest
 @Sql(value = "/clear.sql", executionPhase = ExecutionPhase.BEFORE_TEST_METHOD)
@@ -33,11 +37,15 @@ class SnippetRepositoryTest {
     @Autowired
     private SnippetRepository snippetRepository;
     @Autowired
+    private SnippetBodyStore snippetBodyStore;
+    @Autowired
     private TemplateRepository templateRepository;
     @Autowired
     private CategoryRepository categoryRepository;
     @Autowired
     private MemberJpaRepository memberJpaRepository;
+    @Autowired
+    private EntityManager entityManager;
 
     @Test
     @DisplayName("단일 스니펫 찾기 성공: 템플릿과 순서")
@@ -46,8 +54,8 @@ class SnippetRepositoryTest {
         Member member = memberJpaRepository.fetchById(memberDto.id());
         Category category = categoryRepository.save(new Category("category", member));
         Template template = templateRepository.save(new Template(member, "title", "description", category));
-        Snippet snippet1 = snippetRepository.save(new Snippet(template, "filename1", "content1", 1));
-        Snippet snippet2 = snippetRepository.save(new Snippet(template, "filename2", "content2", 2));
+        Snippet snippet1 = saveSnippet(new Snippet(template, "filename1", "content1", 1));
+        Snippet snippet2 = saveSnippet(new Snippet(template, "filename2", "content2", 2));
 
         Snippet foundSnippet = snippetRepository.findByTemplateAndOrdinal(template, 2)
                 .orElseThrow(() -> new CodeZapException(HttpStatus.NOT_FOUND, "해당하는 스니펫이 존재하지 않습니다."));
@@ -67,9 +75,9 @@ class SnippetRepositoryTest {
         Member member = memberJpaRepository.fetchById(memberDto.id());
         Category category = categoryRepository.save(new Category("category", member));
         Template template = templateRepository.save(new Template(member, "title", "description", category));
-        Snippet snippet1 = snippetRepository.save(new Snippet(template, "filename1", "content1", 1));
-        Snippet snippet2 = snippetRepository.save(new Snippet(template, "filename2", "content2", 2));
-        Snippet snippet3 = snippetRepository.save(new Snippet(template, "filename3", "content3", 2));
+        Snippet snippet1 = saveSnippet(new Snippet(template, "filename1", "content1", 1));
+        Snippet snippet2 = saveSnippet(new Snippet(template, "filename2", "content2", 2));
+        Snippet snippet3 = saveSnippet(new Snippet(template, "filename3", "content3", 2));
 
         List<Snippet> foundSnippets = snippetRepository.findAllByTemplateAndOrdinal(template, 2);
 
@@ -82,4 +90,30 @@ class SnippetRepositoryTest {
                         snippet -> snippet.getFilename().equals(snippet3.getFilename()))
         );
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("큰 스니펫 내용은 압축해 저장하고 조회 시 복원")
+    void saveLargeContentCompressed() {
+        MemberDto memberDto = MemberDtoFixture.getFirstMemberDto();
+        Member member = memberJpaRepository.fetchById(memberDto.id());
+        Category category = categoryRepository.save(new Category("category", member));
+        Template template = templateRepository.save(new Template(member, "title", "description", category));
+        String content = "System.out.println(\"hello\");\n".repeat(200);
+        Long id = saveSnippet(new Snippet(template, "Main.java", content, 1)).getId();
+        entityManager.flush();
+        entityManager.clear();
+
+        Snippet foundSnippet = snippetRepository.fetchById(id);
+
+        assertAll(
+                () -> assertThat(foundSnippet.getContent()).isEqualTo(content),
+                () -> assertThat(foundSnippet.getBody().getContent().encoded().length)
+                        .isLessThan(content.getBytes(StandardCharsets.UTF_8).length)
+        );
+    }
+
+    private Snippet saveSnippet(Snippet snippet) {
+        snippetBodyStore.attach(List.of(snippet));
+        return snippetRepository.save(snippet);
+    }
+}
@@ -0,0 +1,37 @@
+package codezap.template.search;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class CodeTokenizerTest {
+
+    private final Tokenizer tokenizer = new CodeTokenizer();
+
+    @Test
+    @DisplayName("식별자 전체와 camelCase 단어를 소문자로 분리")
+    void tokenizeCamelCase() {
+        assertThat(tokenizer.tokenize("findAllByTemplate();"))
+                .containsExactly("findallbytemplate", "find", "all", "by", "template");
+    }
+
+    @Test
+    @DisplayName("snake_case, 약어, 숫자 경계에서 단어 분리")
+    void tokenizeSnakeCaseAndAcronym() {
+        assertThat(tokenizer.tokenize("MAX_SIZE HTTPClient2"))
+                .containsExactly("max_size", "max", "size", "httpclient2", "http", "client", "2");
+    }
+
+    @Test
+    @DisplayName("파일명은 구분자 기준으로 분리")
+    void tokenizeFilename() {
+        assertThat(tokenizer.tokenize("login.java")).containsExactly("login", "java");
+    }
+
+    @Test
+    @DisplayName("한글은 토큰으로 만들지 않음")
+    void ignoreHangul() {
+        assertThat(tokenizer.tokenize("로그인 구현")).isEmpty();
+    }
+}
@@ -0,0 +1,170 @@
+package codezap.template.search;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.test.context.jdbc.Sql.ExecutionPhase;
+
+import codezap.category.domain.Category;
+import codezap.category.repository.CategoryRepository;
+import codezap.fixture.MemberDtoFixture;
+import codezap.global.QueryCounter;
+import codezap.member.domain.Member;
+import codezap.member.dto.MemberDto;
+import codezap.member.repository.MemberRepository;
+import codezap.template.domain.Snippet;
+import codezap.template.domain.Template;
+import codezap.template.dto.request.CreateSnippetRequest;
+import codezap.template.dto.request.CreateTemplateRequest;
+import codezap.template.dto.request.UpdateSnippetRequest;
+import codezap.template.dto.request.UpdateTemplateRequest;
+import codezap.template.repository.SnippetRepository;
+import codezap.template.repository.TemplateRepository;
+import codezap.template.service.SnippetBodyStore;
+import codezap.template.service.TemplateService;
+
+@SpringBootTest
+@Sql(value = "/clear.sql", executionPhase = ExecutionPhase.BEFORE_TEST_METHOD)
+@Sql(value = "/clear.sql", executionPhase = ExecutionPhase.AFTER_TEST_CLASS)
+class InvertedIndexTemplateSearchEngineTest {
+
+    @Autowired
+    private TemplateRepository templateRepository;
+
+    @Autowired
+    private SnippetRepository snippetRepository;
+
+    @Autowired
+    private SnippetBodyStore snippetBodyStore;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private TemplateService templateService;
+
+    private Member member;
+    private Category category;
+
+    @BeforeEach
+    void setUp() {
+        member = memberRepository.fetchById(MemberDtoFixture.getFirstMemberDto().id());
+        category = categoryRepository.save(new Category("category", member));
+    }
+
+    @Test
+    @DisplayName("제목, 파일명, 코드의 단어를 모두 포함하는 템플릿을 검색")
+    void searchAllTerms() {
+        // given
+        TemplateSearchEngine engine = createEngine(Duration.ZERO);
+        Template login = saveTemplate("로그인 구현", "LoginController.java", "authService.login(request);");
+        saveTemplate("회원가입 구현", "SignupController.java", "memberService.signup(request);");
+
+        // when & then
+        assertAll(
+                () -> assertThat(engine.search(member.getId(), "login")).containsExactly(login.getId()),
+                () -> assertThat(engine.search(member.getId(), "controller 로그인")).containsExactly(login.getId()),
+                () -> assertThat(engine.search(member.getId(), "auth")).containsExactly(login.getId()),
+                () -> assertThat(engine.search(member.getId(), "구현")).hasSize(2),
+                () -> assertThat(engine.search(member.getId(), "signup login")).isEmpty(),
+                () -> assertThat(engine.search(member.getId(), "();")).isEmpty()
+        );
+    }
+
+    @Test
+    @DisplayName("색인 이후 다른 경로로 템플릿이 바뀌면 버전 차이로 색인을 다시 만든다.")
+    void rebuildWhenVersionChanged() {
+        // given
+        TemplateSearchEngine engine = createEngine(Duration.ZERO);
+        saveTemplate("첫 템플릿", "first.java", "first");
+        engine.search(member.getId(), "first");
+
+        // when
+        Template second = saveTemplate("두번째 템플릿", "second.java", "second");
+
+        // then
+        assertThat(engine.search(member.getId(), "second")).containsExactly(second.getId());
+    }
+
+    @Test
+    @DisplayName("다른 노드에서 스니펫 내용만 수정해도 버전 차이로 색인을 다시 만든다.")
+    void rebuildWhenOnlySnippetChangedOnOtherNode() {
+        // given
+        MemberDto memberDto = MemberDtoFixture.getFirstMemberDto();
+        TemplateSearchEngine nodeA = createEngine(Duration.ZERO);
+        Long templateId = templateService.createTemplate(new CreateTemplateRequest(
+                "템플릿",
+                "설명",
+                List.of(new CreateSnippetRequest("Main.java", "alphaValue", 1)),
+                category.getId(),
+                List.of()
+        ), memberDto);
+        nodeA.search(member.getId(), "alpha");
+        Long snippetId = snippetRepository.findAllByTemplateIdOrderByOrdinal(templateId).get(0).getId();
+
+        // when
+        templateService.update(templateId, new UpdateTemplateRequest(
+                "템플릿",
+                "설명",
+                List.of(),
+                List.of(new UpdateSnippetRequest(snippetId, "Main.java", "betaValue", 1)),
+                List.of(),
+                category.getId(),
+                List.of()
+        ), memberDto);
+
+        // then
+        assertAll(
+                () -> assertThat(nodeA.search(member.getId(), "beta")).containsExactly(templateId),
+                () -> assertThat(nodeA.search(member.getId(), "alpha")).isEmpty()
+        );
+    }
+
+    @Test
+    @DisplayName("재검증 주기 안에서는 버전 조회 없이 메모리 색인으로 검색한다.")
+    void searchWithoutVersionQueryWithinInterval() {
+        // given
+        TemplateSearchEngine engine = createEngine(Duration.ofHours(1));
+        Template template = saveTemplate("첫 템플릿", "first.java", "first");
+        engine.search(member.getId(), "first");
+
+        // when
+        QueryCounter.clear();
+        Set<Long> result = engine.search(member.getId(), "first");
+
+        // then
+        assertAll(
+                () -> assertThat(result).containsExactly(template.getId()),
+                () -> assertThat(QueryCounter.count()).isZero()
+        );
+    }
+
+    private TemplateSearchEngine createEngine(Duration revalidateInterval) {
+        return new InvertedIndexTemplateSearchEngine(
+                templateRepository, snippetRepository, 1_000_000, Duration.ofHours(1), revalidateInterval);
+    }
+
+    private Template saveTemplate(String title, String filename, String content) {
+        Template template = templateRepository.save(new Template(member, title, "설명", category));
+        saveSnippet(new Snippet(template, filename, content, 1));
+        return template;
+    }
+
+    private Snippet saveSnippet(Snippet snippet) {
+        snippetBodyStore.attach(List.of(snippet));
+        return snippetRepository.save(snippet);
+    }
+}
@@ -0,0 +1,42 @@
+package codezap.template.search;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class KoreanTokenizerTest {
+
+    private final Tokenizer tokenizer = new KoreanTokenizer();
+
+    @Test
+    @DisplayName("한글 단어의 모든 접미사를 토큰으로 만듦")
+    void tokenizeSuffixes() {
+        assertThat(tokenizer.tokenize("로그인 구현"))
+                .containsExactly("로그인", "그인", "인", "구현", "현");
+    }
+
+    @Test
+    @DisplayName("한글이 아닌 문자를 기준으로 단어 분리")
+    void splitOnNonHangul() {
+        assertThat(tokenizer.tokenize("회원가입Api테스트"))
+                .containsExactly("회원가입", "원가입", "가입", "입", "테스트", "스트", "트");
+    }
+
+    @Test
+    @DisplayName("접미사는 최대 16자까지만 저장")
+    void limitTermLength() {
+        String word = "가".repeat(20);
+
+        assertThat(tokenizer.tokenize(word))
+                .hasSize(20)
+                .allMatch(term -> term.length() <= 16)
+                .first().isEqualTo("가".repeat(16));
+    }
+
+    @Test
+    @DisplayName("한글이 없으면 토큰을 만들지 않음")
+    void ignoreNonHangul() {
+        assertThat(tokenizer.tokenize("login.java")).isEmpty();
+    }
+}
@@ -0,0 +1,56 @@
+package codezap.template.search;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import codezap.template.repository.MemberTemplatesVersion;
+
+class MemberSearchIndexTest {
+
+    private MemberSearchIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new MemberSearchIndex(new MemberTemplatesVersion(0L, LocalDateTime.now(), 0L, LocalDateTime.now()));
+        index.put(1L, new TemplateTerms(
+                Set.of("title", "main"),
+                Map.of(1L, Set.of("public", "static"), 2L, Set.of("record"))
+        ));
+    }
+
+    @Test
+    @DisplayName("수정된 스니펫의 내용만 다시 색인하고 나머지 스니펫의 내용은 유지")
+    void updateEditedSnippets() {
+        boolean updated = index.update(1L, Set.of("title", "util"), Map.of(2L, Set.of("interface")), Set.of(1L, 2L));
+
+        assertThat(updated).isTrue();
+        assertThat(index.search(List.of("static"))).containsExactly(1L);
+        assertThat(index.search(List.of("interface"))).containsExactly(1L);
+        assertThat(index.search(List.of("record"))).isEmpty();
+        assertThat(index.search(List.of("main"))).isEmpty();
+    }
+
+    @Test
+    @DisplayName("삭제된 스니펫의 내용은 색인에서 제거")
+    void updateDeletedSnippets() {
+        index.update(1L, Set.of("title"), Map.of(), Set.of(2L));
+
+        assertThat(index.search(List.of("public"))).isEmpty();
+        assertThat(index.search(List.of("record"))).containsExactly(1L);
+    }
+
+    @Test
+    @DisplayName("색인되지 않은 스니펫이 남아 있으면 부분 갱신 실패")
+    void updateFailWithUnknownSnippet() {
+        assertThat(index.update(1L, Set.of("title"), Map.of(), Set.of(1L, 3L))).isFalse();
+        assertThat(index.update(2L, Set.of("title"), Map.of(), Set.of())).isFalse();
+    }
+}
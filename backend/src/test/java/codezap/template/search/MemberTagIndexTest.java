@@ -0,0 +1,50 @@
+package codezap.template.search;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import codezap.template.repository.MemberTagsVersion;
+
+class MemberTagIndexTest {
+
+    private MemberTagIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new MemberTagIndex(new MemberTagsVersion(0L, LocalDateTime.now()));
+        index.put(1L, Set.of(1L, 2L, 3L));
+        index.put(2L, Set.of(1L, 2L));
+        index.put(3L, Set.of(1L, 3L));
+    }
+
+    @Test
+    @DisplayName("모든 태그를 가진 템플릿 식별자만 오름차순으로 조회")
+    void findTemplateIdsByAllTags() {
+        assertThat(index.findTemplateIdsByAllTags(List.of(1L, 2L))).containsExactly(1L, 2L);
+        assertThat(index.findTemplateIdsByAllTags(List.of(1L, 2L, 3L))).containsExactly(1L);
+    }
+
+    @Test
+    @DisplayName("색인되지 않은 태그가 포함되면 빈 결과 조회")
+    void findTemplateIdsByUnknownTag() {
+        assertThat(index.findTemplateIdsByAllTags(List.of(1L, 4L))).isEmpty();
+    }
+
+    @Test
+    @DisplayName("템플릿의 태그를 변경하거나 삭제하면 이전 태그에서 제거")
+    void putAndRemove() {
+        index.put(1L, Set.of(4L));
+        index.remove(2L);
+
+        assertThat(index.findTemplateIdsByAllTags(List.of(1L))).containsExactly(3L);
+        assertThat(index.findTemplateIdsByAllTags(List.of(4L))).containsExactly(1L);
+        assertThat(index.findTemplateIdsByAllTags(List.of(2L))).isEmpty();
+    }
+}
@@ -0,0 +1,106 @@
+package codezap.template.search;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+import java.time.Duration;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.test.context.jdbc.Sql.ExecutionPhase;
+
+import codezap.category.domain.Category;
+import codezap.category.repository.CategoryRepository;
+import codezap.fixture.MemberDtoFixture;
+import codezap.global.QueryCounter;
+import codezap.member.domain.Member;
+import codezap.member.repository.MemberRepository;
+import codezap.template.domain.Tag;
+import codezap.template.domain.Template;
+import codezap.template.domain.TemplateTag;
+import codezap.template.repository.TagRepository;
+import codezap.template.repository.TemplateRepository;
+import codezap.template.repository.TemplateTagRepository;
+
+@SpringBootTest
+@Sql(value = "/clear.sql", executionPhase = ExecutionPhase.BEFORE_TEST_METHOD)
+@Sql(value = "/clear.sql", executionPhase = ExecutionPhase.AFTER_TEST_CLASS)
+class TagTemplateIndexTest {
+
+    @Autowired
+    private TemplateRepository templateRepository;
+
+    @Autowired
+    private TemplateTagRepository templateTagRepository;
+
+    @Autowired
+    private TagRepository tagRepository;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    private Member member;
+    private Category category;
+
+    @BeforeEach
+    void setUp() {
+        member = memberRepository.fetchById(MemberDtoFixture.getFirstMemberDto().id());
+        category = categoryRepository.save(new Category("category", member));
+    }
+
+    @Test
+    @DisplayName("색인 이후 다른 경로로 태그가 추가되면 버전 차이로 색인을 다시 만든다.")
+    void rebuildWhenVersionChanged() {
+        // given
+        TagTemplateIndex index = createIndex(Duration.ZERO);
+        Tag tag = tagRepository.save(new Tag("tag"));
+        Template first = saveTemplate("first", tag);
+        index.findTemplateIdsByAllTags(member.getId(), List.of(tag.getId()));
+
+        // when
+        Template second = saveTemplate("second", tag);
+
+        // then
+        assertThat(index.findTemplateIdsByAllTags(member.getId(), List.of(tag.getId())))
+                .containsExactlyInAnyOrder(first.getId(), second.getId());
+    }
+
+    @Test
+    @DisplayName("재검증 주기 안에서는 버전 조회 없이 메모리 색인으로 조회한다.")
+    void findWithoutVersionQueryWithinInterval() {
+        // given
+        TagTemplateIndex index = createIndex(Duration.ofHours(1));
+        Tag tag = tagRepository.save(new Tag("tag"));
+        Template template = saveTemplate("first", tag);
+        index.findTemplateIdsByAllTags(member.getId(), List.of(tag.getId()));
+
+        // when
+        QueryCounter.clear();
+        List<Long> templateIds = index.findTemplateIdsByAllTags(member.getId(), List.of(tag.getId()));
+
+        // then
+        assertAll(
+                () -> assertThat(templateIds).containsExactly(template.getId()),
+                () -> assertThat(QueryCounter.count()).isZero()
+        );
+    }
+
+    private TagTemplateIndex createIndex(Duration revalidateInterval) {
+        return new TagTemplateIndex(
+                templateTagRepository, templateRepository, 1_000_000, Duration.ofHours(1), revalidateInterval);
+    }
+
+    private Template saveTemplate(String title, Tag tag) {
+        Template template = templateRepository.save(new Template(member, title, "설명", category));
+        templateTagRepository.save(new TemplateTag(template, tag));
+        return template;
+    }
+}
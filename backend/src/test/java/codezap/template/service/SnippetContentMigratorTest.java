@@ -0,0 +1,86 @@
+package codezap.template.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import jakarta.persistence.EntityManager;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.test.context.jdbc.Sql.ExecutionPhase;
+import org.springframework.transaction.annotation.Transactional;
+
+import codezap.category.domain.Category;
+import codezap.category.repository.CategoryRepository;
+import codezap.fixture.MemberDtoFixture;
+import codezap.member.domain.Member;
+import codezap.member.repository.MemberJpaRepository;
+import codezap.template.domain.Snippet;
+import codezap.template.domain.SnippetBody;
+import codezap.template.domain.Template;
+import codezap.template.repository.SnippetRepository;
+import codezap.template.repository.TemplateRepository;
+
+@SpringBootTest
+@Sql(value = "/clear.sql", executionPhase = ExecutionPhase.BEFORE_TEST_METHOD)
+@Sql(value = "/clear.sql", executionPhase = ExecutionPhase.AFTER_TEST_CLASS)
+@Transactional
+class SnippetContentMigratorTest {
+
+    @Autowired
+    private SnippetContentMigrator snippetContentMigrator;
+    @Autowired
+    private SnippetRepository snippetRepository;
+    @Autowired
+    private SnippetBodyStore snippetBodyStore;
+    @Autowired
+    private TemplateRepository templateRepository;
+    @Autowired
+    private CategoryRepository categoryRepository;
+    @Autowired
+    private MemberJpaRepository memberJpaRepository;
+    @Autowired
+    private EntityManager entityManager;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    @DisplayName("스니펫에 저장된 기존 내용을 내용 저장소로 전환")
+    void migrateLegacyContent() {
+        Member member = memberJpaRepository.fetchById(MemberDtoFixture.getFirstMemberDto().id());
+        Category category = categoryRepository.save(new Category("category", member));
+        Template template = templateRepository.save(new Template(member, "title", "description", category));
+        Long id = saveSnippet(new Snippet(template, "Main.java", "content", 1)).getId();
+        entityManager.flush();
+        jdbcTemplate.update("UPDATE snippet SET content = ?, body_hash = NULL WHERE id = ?", "legacy", id);
+        entityManager.clear();
+        LocalDateTime modifiedAt = jdbcTemplate.queryForObject(
+                "SELECT modified_at FROM snippet WHERE id = ?", LocalDateTime.class, id);
+
+        int migratedCount = snippetContentMigrator.migrateBatch();
+        entityManager.clear();
+
+        Snippet snippet = snippetRepository.fetchById(id);
+        assertAll(
+                () -> assertThat(migratedCount).isEqualTo(1),
+                () -> assertThat(snippet.getContent()).isEqualTo("legacy"),
+                () -> assertThat(snippet.getBodyHash()).isEqualTo(SnippetBody.hashOf("legacy")),
+                () -> assertThat(jdbcTemplate.queryForObject(
+                        "SELECT content FROM snippet WHERE id = ?", String.class, id)).isNull(),
+                () -> assertThat(snippet.getModifiedAt()).isEqualTo(modifiedAt),
+                () -> assertThat(snippetContentMigrator.migrateBatch()).isZero()
+        );
+    }
+
+    private Snippet saveSnippet(Snippet snippet) {
+        snippetBodyStore.attach(List.of(snippet));
+        return snippetRepository.save(snippet);
+    }
+}
@@ -0,0 +1,94 @@
+package codezap.template.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+import java.time.Duration;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.test.context.jdbc.Sql.ExecutionPhase;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import codezap.global.QueryCounter;
+import codezap.template.domain.Tag;
+import codezap.template.repository.TagRepository;
+
+@SpringBootTest
+@Sql(value = "/clear.sql", executionPhase = ExecutionPhase.BEFORE_TEST_METHOD)
+@Sql(value = "/clear.sql", executionPhase = ExecutionPhase.AFTER_TEST_CLASS)
+class TagResolverTest {
+
+    @Autowired
+    private TagRepository tagRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private TagResolver tagResolver;
+
+    @BeforeEach
+    void setUp() {
+        tagResolver = new TagResolver(tagRepository, true, 100, Duration.ofHours(1));
+    }
+
+    @Test
+    @DisplayName("커밋된 태그는 캐시에서 조회하여 쿼리를 실행하지 않는다.")
+    void resolveCachedTagsWithoutQuery() {
+        // given
+        List<Long> createdIds = resolveIds(List.of("java", "spring"));
+
+        // when
+        QueryCounter.clear();
+        List<Long> cachedIds = resolveIds(List.of("spring", "java"));
+        long queryCount = QueryCounter.count();
+
+        // then
+        assertAll(
+                () -> assertThat(cachedIds).containsExactly(createdIds.get(1), createdIds.get(0)),
+                () -> assertThat(queryCount).isZero()
+        );
+    }
+
+    @Test
+    @DisplayName("대소문자만 다른 태그 이름은 하나의 태그로 처리한다.")
+    void resolveCaseVariantsAsOneTag() {
+        // when
+        List<Long> ids = resolveIds(List.of("Java", "java", "JAVA"));
+
+        // then
+        assertAll(
+                () -> assertThat(ids).hasSize(1),
+                () -> assertThat(tagRepository.findAll()).map(Tag::getName).containsExactly("Java")
+        );
+    }
+
+    @Test
+    @DisplayName("캐시된 태그는 대소문자가 달라도 같은 태그로 조회된다.")
+    void resolveCachedCaseVariant() {
+        // given
+        List<Long> createdIds = resolveIds(List.of("Java"));
+
+        // when
+        QueryCounter.clear();
+        List<Long> ids = resolveIds(List.of("JAVA"));
+
+        // then
+        assertAll(
+                () -> assertThat(ids).isEqualTo(createdIds),
+                () -> assertThat(QueryCounter.count()).isZero(),
+                () -> assertThat(tagRepository.count()).isOne()
+        );
+    }
+
+    private List<Long> resolveIds(List<String> names) {
+        return transactionTemplate.execute(status -> tagResolver.resolve(names).stream()
+                .map(Tag::getId)
+                .toList());
+    }
+}
@@ -52,6 +52,9 @@ public class TagSearchTest {
     @Autowired
     private SnippetRepository snippetRepository;
 
+    @Autowired
+    private SnippetBodyStore snippetBodyStore;
+
     @Autowired
     private ThumbnailSnippetRepository thumbnailSnippetRepository;
 
@@ -101,8 +104,8 @@ public class TagSearchTest {
     private Template saveTemplate(CreateTemplateRequest createTemplateRequest, Member member, Category category) {
         Template savedTemplate = templateRepository.save(
                 new Template(member, createTemplateRequest.title(), createTemplateRequest.description(), category));
-        Snippet savedFirstSnippet = snippetRepository.save(new Snippet(savedTemplate, "filename1", "content1", 1));
-        snippetRepository.save(new Snippet(savedTemplate, "filename2", "content2", 2));
+        Snippet savedFirstSnippet = saveSnippet(new Snippet(savedTemplate, "filename1", "content1", 1));
+        saveSnippet(new Snippet(savedTemplate, "filename2", "content2", 2));
         thumbnailSnippetRepository.save(new ThumbnailSnippet(savedTemplate, savedFirstSnippet));
 
         return savedTemplate;
@@ -136,4 +139,9 @@ public class TagSearchTest {
             );
         }
     }
+
+    private Snippet saveSnippet(Snippet snippet) {
+        snippetBodyStore.attach(List.of(snippet));
+        return snippetRepository.save(snippet);
+    }
 }
@@ -1,6 +1,7 @@
 package codezap.template.service;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.junit.jupiter.api.Assertions.assertAll;
 
 import java.util.List;
@@ -20,6 +21,8 @@ import org.springframework.test.context.jdbc.Sql.ExecutionPhase;
 import codezap.category.domain.Category;
 import codezap.category.repository.CategoryRepository;
 import codezap.fixture.MemberDtoFixture;
+import codezap.global.exception.CodeZapException;
+import codezap.global.QueryCounter;
 import codezap.member.domain.Member;
 import codezap.member.dto.MemberDto;
 import codezap.member.repository.MemberRepository;
@@ -56,6 +59,9 @@ class TemplateServiceSearchTest {
     @Autowired
     private SnippetRepository snippetRepository;
 
+    @Autowired
+    private SnippetBodyStore snippetBodyStore;
+
     @Autowired
     private ThumbnailSnippetRepository thumbnailSnippetRepository;
 
@@ -105,8 +111,8 @@ class TemplateServiceSearchTest {
     private Template saveTemplate(CreateTemplateRequest createTemplateRequest, Member member, Category category) {
         Template savedTemplate = templateRepository.save(
                 new Template(member, createTemplateRequest.title(), createTemplateRequest.description(), category));
-        Snippet savedFirstSnippet = snippetRepository.save(new Snippet(savedTemplate, "filename1", "content1", 1));
-        snippetRepository.save(new Snippet(savedTemplate, "filename2", "content2", 2));
+        Snippet savedFirstSnippet = saveSnippet(new Snippet(savedTemplate, "filename1", "content1", 1));
+        saveSnippet(new Snippet(savedTemplate, "filename2", "content2", 2));
         thumbnailSnippetRepository.save(new ThumbnailSnippet(savedTemplate, savedFirstSnippet));
 
         return savedTemplate;
@@ -121,8 +127,8 @@ class TemplateServiceSearchTest {
         Template savedTemplate = templateRepository.save(
                 new Template(member, createTemplateRequest.title(), createTemplateRequest.description(), category));
 
-        Snippet savedFirstSnippet = snippetRepository.save(new Snippet(savedTemplate, firstFilename, "content1", 1));
-        snippetRepository.save(new Snippet(savedTemplate, secondFilename, "content2", 2));
+        Snippet savedFirstSnippet = saveSnippet(new Snippet(savedTemplate, firstFilename, "content1", 1));
+        saveSnippet(new Snippet(savedTemplate, secondFilename, "content2", 2));
         thumbnailSnippetRepository.save(new ThumbnailSnippet(savedTemplate, savedFirstSnippet));
     }
 
@@ -135,8 +141,8 @@ class TemplateServiceSearchTest {
         Template savedTemplate = templateRepository.save(
                 new Template(member, createTemplateRequest.title(), createTemplateRequest.description(), category));
 
-        Snippet savedFirstSnippet = snippetRepository.save(new Snippet(savedTemplate, "filename1", firstContent, 1));
-        snippetRepository.save(new Snippet(savedTemplate, "filename2", secondContent, 2));
+        Snippet savedFirstSnippet = saveSnippet(new Snippet(savedTemplate, "filename1", firstContent, 1));
+        saveSnippet(new Snippet(savedTemplate, "filename2", secondContent, 2));
         thumbnailSnippetRepository.save(new ThumbnailSnippet(savedTemplate, savedFirstSnippet));
     }
 
@@ -268,6 +274,70 @@ class TemplateServiceSearchTest {
             assertThat(titles).containsExactly("hello keyword 6", "hello keyword 7", "hello keyword 8", "hello keyword 9",
                     "hello keyword 10");
         }
+
+        @Test
+        @DisplayName("템플릿 토픽 검색 성공 : 단어의 앞부분만 일치해도 검색")
+        void findAllTermPrefixMatchSuccess() {
+            //given
+            MemberDto memberDto = MemberDtoFixture.getFirstMemberDto();
+            Member member = memberRepository.fetchById(memberDto.id());
+            Category category = categoryRepository.save(new Category("category", member));
+            saveTemplateBySnippetContent("tempate1", "userRepository.findAll()", "content", member, category);
+            saveTemplateBySnippetContent("tempate2", "회원가입 요청", "content", member, category);
+
+            //when
+            FindAllTemplatesResponse camelCasePart = templateService.findAllBy(
+                    member.getId(), "Repo", null, null, PageRequest.of(1, 3)
+            );
+            FindAllTemplatesResponse koreanSuffix = templateService.findAllBy(
+                    member.getId(), "가입", null, null, PageRequest.of(1, 3)
+            );
+
+            //then
+            assertAll(
+                    () -> assertThat(camelCasePart.templates()).map(ItemResponse::title).containsExactly("tempate1"),
+                    () -> assertThat(koreanSuffix.templates()).map(ItemResponse::title).containsExactly("tempate2")
+            );
+        }
+
+        @Test
+        @DisplayName("템플릿 토픽 검색 : 영문 단어 중간 문자열은 검색되지 않음")
+        void findAllInfixNotMatched() {
+            //given
+            MemberDto memberDto = MemberDtoFixture.getFirstMemberDto();
+            Member member = memberRepository.fetchById(memberDto.id());
+            Category category = categoryRepository.save(new Category("category", member));
+            saveTemplate(makeTemplateRequest("hello keyword"), member, category);
+
+            //when
+            FindAllTemplatesResponse templates = templateService.findAllBy(
+                    member.getId(), "eyword", null, null, PageRequest.of(1, 3)
+            );
+
+            //then
+            assertThat(templates.templates()).isEmpty();
+        }
+
+        @Test
+        @DisplayName("템플릿 토픽 검색 : 문장 부호만 있는 검색어는 결과 없음")
+        void findAllPunctuationKeywordReturnsNothing() {
+            //given
+            MemberDto memberDto = MemberDtoFixture.getFirstMemberDto();
+            Member member = memberRepository.fetchById(memberDto.id());
+            Category category = categoryRepository.save(new Category("category", member));
+            saveTemplate(makeTemplateRequest("hello keyword !"), member, category);
+
+            //when
+            FindAllTemplatesResponse templates = templateService.findAllBy(
+                    member.getId(), "!", null, null, PageRequest.of(1, 3)
+            );
+
+            //then
+            assertAll(
+                    () -> assertThat(templates.templates()).isEmpty(),
+                    () -> assertThat(templates.totalElements()).isZero()
+            );
+        }
     }
 
     @Nested
@@ -413,5 +483,110 @@ class TemplateServiceSearchTest {
                     () -> assertThat(allBy.templates()).allMatch(template -> template.id() % 2 == 0),
                     () -> assertThat(allBy.totalElements()).isEqualTo(7));
         }
+
+        @Test
+        @DisplayName("태그 조회 쿼리 수가 페이지의 템플릿 개수에 비례하지 않음")
+        void findAllByTagQueryCountSuccess() {
+            MemberDto memberDto = MemberDtoFixture.getFirstMemberDto();
+            Member member = memberRepository.fetchById(memberDto.id());
+            Category category1 = categoryRepository.save(new Category("category1", member));
+            Category category2 = categoryRepository.save(new Category("category2", member));
+            saveDefault15Templates(member, category1);
+            saveDefault15Templates(member, category2);
+            tagRepository.save(new Tag("tag1"));
+            tagRepository.save(new Tag("tag2"));
+            tagRepository.save(new Tag("tag3"));
+            for (long i = 1L; i <= 30L; i++) {
+                for (long tagId = 1L; tagId <= 3L; tagId++) {
+                    templateTagRepository.save(
+                            new TemplateTag(templateRepository.fetchById(i), tagRepository.fetchById(tagId)));
+                }
+            }
+
+            QueryCounter.clear();
+            FindAllTemplatesResponse allBy = templateService.findAllBy(
+                    member.getId(), "", null, null, DEFAULT_PAGING_REQUEST
+            );
+            long queryCount = QueryCounter.count();
+
+            assertAll(() -> assertThat(allBy.templates()).hasSize(20),
+                    () -> assertThat(allBy.templates()).allMatch(template -> template.tags().size() == 3),
+                    () -> assertThat(queryCount).isLessThanOrEqualTo(5));
+        }
+
+        @Test
+        @DisplayName("커서 탐색 성공 : 최신순으로 다음 커서를 따라 마지막 페이지까지 조회")
+        void findAllByCursorSuccess() {
+            MemberDto memberDto = MemberDtoFixture.getFirstMemberDto();
+            Member member = memberRepository.fetchById(memberDto.id());
+            Category category = categoryRepository.save(new Category("category", member));
+            saveDefault15Templates(member, category);
+
+            FindAllTemplatesResponse firstPage = templateService.findAllByCursor(
+                    member.getId(), "", null, null, "", 10
+            );
+            FindAllTemplatesResponse lastPage = templateService.findAllByCursor(
+                    member.getId(), "", null, null, firstPage.nextCursor(), 10
+            );
+
+            assertAll(
+                    () -> assertThat(firstPage.templates()).map(ItemResponse::id)
+                            .containsExactly(15L, 14L, 13L, 12L, 11L, 10L, 9L, 8L, 7L, 6L),
+                    () -> assertThat(firstPage.nextCursor()).isNotNull(),
+                    () -> assertThat(lastPage.templates()).map(ItemResponse::id)
+                            .containsExactly(5L, 4L, 3L, 2L, 1L),
+                    () -> assertThat(lastPage.nextCursor()).isNull()
+            );
+        }
+
+        @Test
+        @DisplayName("커서 탐색 성공 : 태그 조건에 맞는 템플릿만 최신순으로 다음 커서를 따라 조회")
+        void findAllByCursorWithTagSuccess() {
+            MemberDto memberDto = MemberDtoFixture.getFirstMemberDto();
+            Member member = memberRepository.fetchById(memberDto.id());
+            Category category1 = categoryRepository.save(new Category("category1", member));
+            Category category2 = categoryRepository.save(new Category("category2", member));
+            saveDefault15Templates(member, category1);
+            saveDefault15Templates(member, category2);
+            tagRepository.save(new Tag("tag1"));
+            tagRepository.save(new Tag("tag2"));
+            for (long i = 1L; i <= 30L; i++) {
+                templateTagRepository.save(
+                        new TemplateTag(templateRepository.fetchById(i), tagRepository.fetchById((i % 2) + 1)));
+            }
+
+            FindAllTemplatesResponse firstPage = templateService.findAllByCursor(
+                    member.getId(), "", category1.getId(), List.of(1L), "", 4
+            );
+            FindAllTemplatesResponse lastPage = templateService.findAllByCursor(
+                    member.getId(), "", category1.getId(), List.of(1L), firstPage.nextCursor(), 4
+            );
+
+            assertAll(
+                    () -> assertThat(firstPage.templates()).map(ItemResponse::id)
+                            .containsExactly(14L, 12L, 10L, 8L),
+                    () -> assertThat(firstPage.nextCursor()).isNotNull(),
+                    () -> assertThat(lastPage.templates()).map(ItemResponse::id)
+                            .containsExactly(6L, 4L, 2L),
+                    () -> assertThat(lastPage.nextCursor()).isNull()
+            );
+        }
+
+        @Test
+        @DisplayName("커서 탐색 실패 : 잘못된 형식의 커서")
+        void findAllByCursorFailWithInvalidCursor() {
+            MemberDto memberDto = MemberDtoFixture.getFirstMemberDto();
+
+            assertThatThrownBy(() -> templateService.findAllByCursor(
+                    memberDto.id(), "", null, null, "invalid", 10
+            ))
+                    .isInstanceOf(CodeZapException.class)
+                    .hasMessage("잘못된 형식의 커서입니다.");
+        }
+    }
+
+    private Snippet saveSnippet(Snippet snippet) {
+        snippetBodyStore.attach(List.of(snippet));
+        return snippetRepository.save(snippet);
     }
 }
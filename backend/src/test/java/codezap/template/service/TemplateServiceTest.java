@@ -1,9 +1,18 @@
 package codezap.template.service;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
 import static org.junit.jupiter.api.Assertions.assertAll;
 
+import java.time.Duration;
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceUnitUtil;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -19,12 +28,17 @@ import org.springframework.transaction.annotation.Transactional;
 import codezap.category.domain.Category;
 import codezap.category.repository.CategoryRepository;
 import codezap.fixture.MemberDtoFixture;
+import codezap.global.QueryCounter;
+import codezap.global.exception.CodeZapException;
 import codezap.member.domain.Member;
 import codezap.member.dto.MemberDto;
 import codezap.member.repository.MemberJpaRepository;
 import codezap.template.domain.Snippet;
+import codezap.template.domain.SnippetBody;
+import codezap.template.domain.SnippetContent;
 import codezap.template.domain.Tag;
 import codezap.template.domain.Template;
+import codezap.template.domain.TemplateCountType;
 import codezap.template.domain.TemplateTag;
 import codezap.template.domain.ThumbnailSnippet;
 import codezap.template.dto.request.CreateSnippetRequest;
@@ -32,9 +46,13 @@ import codezap.template.dto.request.CreateTemplateRequest;
 import codezap.template.dto.request.UpdateSnippetRequest;
 import codezap.template.dto.request.UpdateTemplateRequest;
 import codezap.template.dto.response.ExploreTemplatesResponse;
+import codezap.template.dto.response.FindAllSnippetByTemplateResponse;
+import codezap.template.dto.response.FindAllTagsResponse;
 import codezap.template.dto.response.FindTemplateResponse;
+import codezap.template.repository.SnippetBodyRepository;
 import codezap.template.repository.SnippetRepository;
 import codezap.template.repository.TagRepository;
+import codezap.template.repository.TemplateCountRepository;
 import codezap.template.repository.TemplateRepository;
 import codezap.template.repository.TemplateTagRepository;
 import codezap.template.repository.ThumbnailSnippetRepository;
@@ -58,6 +76,9 @@ class TemplateServiceTest {
     @Autowired
     private SnippetRepository snippetRepository;
 
+    @Autowired
+    private SnippetBodyRepository snippetBodyRepository;
+
     @Autowired
     private ThumbnailSnippetRepository thumbnailSnippetRepository;
 
@@ -70,6 +91,16 @@ class TemplateServiceTest {
     private TagRepository tagRepository;
     @Autowired
     private MemberJpaRepository memberJpaRepository;
+    @Autowired
+    private EntityManager entityManager;
+    @Autowired
+    private TemplateCounter templateCounter;
+    @Autowired
+    private TemplateCountRepository templateCountRepository;
+    @Autowired
+    private SnippetBodyCollector snippetBodyCollector;
+    @Autowired
+    private SnippetBodyStore snippetBodyStore;
 
     @BeforeEach
     void setting() {
@@ -95,6 +126,75 @@ class TemplateServiceTest {
         );
     }
 
+    @Test
+    @DisplayName("템플릿 생성 성공 : 썸네일 내용은 첫 스니펫의 앞 10줄로 저장")
+    void createTemplateSaveThumbnailContentSuccess() {
+        // given
+        MemberDto memberDto = MemberDtoFixture.getFirstMemberDto();
+        String content = "line1\nline2\nline3\nline4\nline5\nline6\nline7\nline8\nline9\nline10\nline11\nline12";
+        CreateTemplateRequest createTemplateRequest = new CreateTemplateRequest(
+                "title",
+                "description",
+                List.of(new CreateSnippetRequest("filename1", content, 1)),
+                1L,
+                List.of()
+        );
+
+        // when
+        Long id = templateService.createTemplate(createTemplateRequest, memberDto);
+        ThumbnailSnippet thumbnailSnippet = thumbnailSnippetRepository.findByTemplate(templateRepository.fetchById(id))
+                .get();
+
+        // then
+        assertThat(thumbnailSnippet.getThumbnailContent())
+                .isEqualTo("line1\nline2\nline3\nline4\nline5\nline6\nline7\nline8\nline9\nline10");
+    }
+
+    @Test
+    @DisplayName("템플릿 ETag 조회 : 카테고리 이름이 바뀌면 ETag도 바뀜")
+    void findETagChangesWhenCategoryRenamed() {
+        // given
+        MemberDto memberDto = MemberDtoFixture.getFirstMemberDto();
+        Member member = memberJpaRepository.fetchById(memberDto.id());
+        Category category = categoryRepository.save(new Category("category", member));
+        Long id = templateService.createTemplate(new CreateTemplateRequest(
+                "title",
+                "description",
+                List.of(new CreateSnippetRequest("filename1", "content1", 1)),
+                category.getId(),
+                List.of()
+        ), memberDto);
+        entityManager.flush();
+        String eTag = templateService.findETagByIdAndMember(id, memberDto);
+
+        // when
+        category.updateName("renamed");
+        entityManager.flush();
+
+        // then
+        assertThat(templateService.findETagByIdAndMember(id, memberDto)).isNotEqualTo(eTag);
+    }
+
+    @Test
+    @DisplayName("템플릿 생성 성공 : 이미 존재하는 태그는 새로 만들지 않고 재사용")
+    void createTemplateReuseTagsSuccess() {
+        // given
+        MemberDto memberDto = MemberDtoFixture.getFirstMemberDto();
+        templateService.createTemplate(makeTemplateRequest("title1"), memberDto);
+
+        // when
+        Long id = templateService.createTemplate(makeTemplateRequest("title2"), memberDto);
+        List<String> tagNames = templateTagRepository.findAllByTemplate(templateRepository.fetchById(id)).stream()
+                .map(templateTag -> templateTag.getTag().getName())
+                .toList();
+
+        // then
+        assertAll(
+                () -> assertThat(tagRepository.findAll()).hasSize(2),
+                () -> assertThat(tagNames).containsExactly("tag1", "tag2")
+        );
+    }
+
     @Test
     @DisplayName("템플릿 전체 조회 성공")
     void findAllTemplatesSuccess() {
@@ -105,12 +205,37 @@ class TemplateServiceTest {
         saveTemplate(makeTemplateRequest("title2"), new Category("category2", member), member);
 
         // when
-        ExploreTemplatesResponse allTemplates = templateService.findAll();
+        ExploreTemplatesResponse allTemplates = templateService.findAll(null, 20);
 
         // then
         assertThat(allTemplates.templates()).hasSize(2);
     }
 
+    @Test
+    @DisplayName("템플릿 전체 조회 성공 : 커서를 따라 최신순으로 조회")
+    void findAllTemplatesByCursorSuccess() {
+        // given
+        MemberDto memberDto = MemberDtoFixture.getFirstMemberDto();
+        Member member = memberJpaRepository.fetchById(memberDto.id());
+        saveTemplate(makeTemplateRequest("title1"), new Category("category1", member), member);
+        saveTemplate(makeTemplateRequest("title2"), new Category("category2", member), member);
+        saveTemplate(makeTemplateRequest("title3"), new Category("category3", member), member);
+
+        // when
+        ExploreTemplatesResponse firstPage = templateService.findAll(null, 2);
+        ExploreTemplatesResponse lastPage = templateService.findAll(firstPage.nextCursor(), 2);
+
+        // then
+        assertAll(
+                () -> assertThat(firstPage.templates()).map(ExploreTemplatesResponse.ItemResponse::title)
+                        .containsExactly("title3", "title2"),
+                () -> assertThat(firstPage.nextCursor()).isNotNull(),
+                () -> assertThat(lastPage.templates()).map(ExploreTemplatesResponse.ItemResponse::title)
+                        .containsExactly("title1"),
+                () -> assertThat(lastPage.nextCursor()).isNull()
+        );
+    }
+
     @Test
     @DisplayName("템플릿 단건 조회 성공")
     void findOneTemplateSuccess() {
@@ -133,6 +258,57 @@ class TemplateServiceTest {
         );
     }
 
+    @Test
+    @DisplayName("템플릿 단건 조회 성공 : 스니펫과 태그를 포함해 2번의 쿼리로 조회")
+    void findOneTemplateWithTwoQueries() {
+        // given
+        MemberDto memberDto = MemberDtoFixture.getFirstMemberDto();
+        Member member = memberJpaRepository.fetchById(memberDto.id());
+        Template template = saveTemplate(makeTemplateRequest("title"), new Category("category1", member), member);
+
+        templateRepository.flush();
+
+        // when
+        QueryCounter.clear();
+        FindTemplateResponse foundTemplate = templateService.findByIdAndMember(template.getId(), memberDto);
+        long queryCount = QueryCounter.count();
+
+        // then
+        assertAll(
+                () -> assertThat(foundTemplate.snippets()).map(FindAllSnippetByTemplateResponse::ordinal)
+                        .containsExactly(1, 2),
+                () -> assertThat(foundTemplate.tags()).hasSize(2),
+                () -> assertThat(queryCount).isEqualTo(2)
+        );
+    }
+
+    @Test
+    @DisplayName("템플릿 단건 조회 실패 : 다른 회원의 템플릿")
+    void findOneTemplateFailWithUnauthorizedMember() {
+        // given
+        MemberDto memberDto = MemberDtoFixture.getFirstMemberDto();
+        Member member = memberJpaRepository.fetchById(memberDto.id());
+        Template template = saveTemplate(makeTemplateRequest("title"), new Category("category1", member), member);
+        MemberDto otherMemberDto = MemberDtoFixture.getSecondMemberDto();
+
+        // when & then
+        assertThatThrownBy(() -> templateService.findByIdAndMember(template.getId(), otherMemberDto))
+                .isInstanceOf(CodeZapException.class)
+                .hasMessage("해당 템플릿에 대한 권한이 없는 유저입니다.");
+    }
+
+    @Test
+    @DisplayName("템플릿 단건 조회 실패 : 존재하지 않는 템플릿")
+    void findOneTemplateFailWithNotExistTemplate() {
+        // given
+        MemberDto memberDto = MemberDtoFixture.getFirstMemberDto();
+
+        // when & then
+        assertThatThrownBy(() -> templateService.findByIdAndMember(100L, memberDto))
+                .isInstanceOf(CodeZapException.class)
+                .hasMessage("식별자 100에 해당하는 템플릿이 존재하지 않습니다.");
+    }
+
     @Test
     @DisplayName("템플릿 수정 성공")
     void updateTemplateSuccess() {
@@ -157,6 +333,7 @@ class TemplateServiceTest {
         assertAll(
                 () -> assertThat(updateTemplate.getTitle()).isEqualTo("updateTitle"),
                 () -> assertThat(thumbnailSnippet.getSnippet().getId()).isEqualTo(2L),
+                () -> assertThat(thumbnailSnippet.getThumbnailContent()).isEqualTo("content2"),
                 () -> assertThat(snippets).hasSize(3),
                 () -> assertThat(updateTemplate.getCategory().getId()).isEqualTo(1L),
                 () -> assertThat(tags).hasSize(2),
@@ -164,6 +341,125 @@ class TemplateServiceTest {
         );
     }
 
+    @Test
+    @DisplayName("템플릿 수정 성공 : 스니펫 개수에 비례하지 않는 쿼리 수로 수정")
+    void updateTemplateQueryCountSuccess() {
+        // given
+        MemberDto memberDto = MemberDtoFixture.getFirstMemberDto();
+        Long templateId = templateService.createTemplate(new CreateTemplateRequest(
+                "title",
+                "description",
+                IntStream.rangeClosed(1, 20)
+                        .mapToObj(ordinal -> new CreateSnippetRequest("filename" + ordinal, "content", ordinal))
+                        .toList(),
+                1L,
+                List.of("tag1", "tag2")
+        ), memberDto);
+        entityManager.flush();
+        entityManager.clear();
+        UpdateTemplateRequest updateTemplateRequest = new UpdateTemplateRequest(
+                "updateTitle",
+                "description",
+                List.of(
+                        new CreateSnippetRequest("filename21", "content", 19),
+                        new CreateSnippetRequest("filename22", "content", 20)
+                ),
+                LongStream.rangeClosed(1, 18)
+                        .mapToObj(id -> new UpdateSnippetRequest(id, "updateFilename" + id, "updateContent", (int) id))
+                        .toList(),
+                List.of(19L, 20L),
+                1L,
+                List.of("tag1", "tag2")
+        );
+
+        // when
+        QueryCounter.clear();
+        templateService.update(templateId, updateTemplateRequest, memberDto);
+        entityManager.flush();
+        long queryCount = QueryCounter.count();
+
+        // then
+        assertAll(
+                () -> assertThat(snippetRepository.findAllByTemplateIdOrderByOrdinal(templateId))
+                        .map(Snippet::getFilename)
+                        .hasSize(20)
+                        .contains("updateFilename1", "filename21", "filename22")
+                        .doesNotContain("filename19", "filename20"),
+                () -> assertThat(queryCount).isLessThanOrEqualTo(20)
+        );
+    }
+
+    @Test
+    @DisplayName("템플릿 수정 성공 : 스니펫 개수와 관계없이 같은 쿼리 수로 수정")
+    void updateTemplateWithSameQueryCountRegardlessOfSnippetCount() {
+        // given
+        MemberDto memberDto = MemberDtoFixture.getFirstMemberDto();
+
+        // when
+        long twoSnippetsQueryCount = countUpdateQueries(2, memberDto);
+        long twentySnippetsQueryCount = countUpdateQueries(20, memberDto);
+
+        // then
+        assertThat(twentySnippetsQueryCount).isEqualTo(twoSnippetsQueryCount);
+    }
+
+    @Test
+    @DisplayName("템플릿 수정 실패 : 템플릿에 없는 스니펫 삭제 요청")
+    void updateTemplateFailWithUnknownDeleteSnippetId() {
+        // given
+        MemberDto memberDto = MemberDtoFixture.getFirstMemberDto();
+        Long templateId = templateService.createTemplate(makeTemplateRequest("title"), memberDto);
+        UpdateTemplateRequest updateTemplateRequest = new UpdateTemplateRequest(
+                "title",
+                "description",
+                List.of(),
+                List.of(new UpdateSnippetRequest(1L, "filename1", "content1", 1)),
+                List.of(2L, 100L),
+                1L,
+                List.of("tag1", "tag2")
+        );
+
+        // when & then
+        assertThatThrownBy(() -> templateService.update(templateId, updateTemplateRequest, memberDto))
+                .isInstanceOf(CodeZapException.class)
+                .hasMessage("식별자 100에 해당하는 스니펫이 존재하지 않습니다.");
+    }
+
+    @Test
+    @DisplayName("템플릿 수정 성공 : 내용이 바뀌지 않은 스니펫의 본문은 불러오지 않음")
+    void updateTemplateWithoutLoadingUneditedBodies() {
+        // given
+        MemberDto memberDto = MemberDtoFixture.getFirstMemberDto();
+        Long templateId = templateService.createTemplate(makeTemplateRequest("title"), memberDto);
+        entityManager.flush();
+        entityManager.clear();
+        UpdateTemplateRequest updateTemplateRequest = new UpdateTemplateRequest(
+                "title",
+                "description",
+                List.of(),
+                List.of(
+                        new UpdateSnippetRequest(1L, "updateFilename1", "content1", 1),
+                        new UpdateSnippetRequest(2L, "filename2", "updateContent2", 2)
+                ),
+                List.of(),
+                1L,
+                List.of("tag1", "tag2")
+        );
+
+        // when
+        templateService.update(templateId, updateTemplateRequest, memberDto);
+        Snippet uneditedSnippet = entityManager.find(Snippet.class, 1L);
+        Snippet editedSnippet = entityManager.find(Snippet.class, 2L);
+        PersistenceUnitUtil persistenceUnitUtil = entityManager.getEntityManagerFactory().getPersistenceUnitUtil();
+
+        // then
+        assertAll(
+                () -> assertThat(persistenceUnitUtil.isLoaded(uneditedSnippet.getBody())).isFalse(),
+                () -> assertThat(uneditedSnippet.getFilename()).isEqualTo("updateFilename1"),
+                () -> assertThat(editedSnippet.getBodyHash()).isEqualTo(SnippetBody.hashOf("updateContent2"))
+        );
+    }
+
     @Test
     @DisplayName("템플릿 삭제 성공")
     void deleteTemplateSuccess() {
@@ -184,6 +480,207 @@ class TemplateServiceTest {
         );
     }
 
+    @Test
+    @DisplayName("템플릿 생성, 수정, 삭제 시 카테고리별, 태그별 템플릿 개수 갱신")
+    void countTemplatesByCategoryAndTag() {
+        // given
+        MemberDto memberDto = MemberDtoFixture.getFirstMemberDto();
+        Member member = memberJpaRepository.fetchById(memberDto.id());
+        Category category = categoryRepository.save(new Category("category1", member));
+        templateService.createTemplate(makeTemplateRequest("title1"), memberDto);
+        Long secondTemplateId = templateService.createTemplate(makeTemplateRequest("title2"), memberDto);
+        Long thirdTemplateId = templateService.createTemplate(makeTemplateRequest("title3"), memberDto);
+
+        // when
+        templateService.update(secondTemplateId, new UpdateTemplateRequest(
+                "title2",
+                "description",
+                List.of(),
+                List.of(
+                        new UpdateSnippetRequest(3L, "filename1", "content1", 1),
+                        new UpdateSnippetRequest(4L, "filename2", "content2", 2)
+                ),
+                List.of(),
+                category.getId(),
+                List.of("tag1", "tag3")
+        ), memberDto);
+        templateService.deleteById(thirdTemplateId, memberDto);
+
+        // then
+        assertAll(
+                () -> assertThat(templateService.findAllTagsByMemberId(member.getId()).tags())
+                        .map(FindAllTagsResponse.ItemResponse::name, FindAllTagsResponse.ItemResponse::templateCount)
+                        .containsExactly(tuple("tag1", 2L), tuple("tag2", 1L), tuple("tag3", 1L)),
+                () -> assertThat(templateCounter.findCategoryCounts(member.getId()))
+                        .containsEntry(1L, 1L)
+                        .containsEntry(category.getId(), 1L)
+        );
+    }
+
+    @Test
+    @DisplayName("개수 행이 이미 존재해도 충돌 없이 템플릿 개수 갱신")
+    void countTemplatesWithExistingCountRow() {
+        // given
+        MemberDto memberDto = MemberDtoFixture.getFirstMemberDto();
+        Member member = memberJpaRepository.fetchById(memberDto.id());
+        templateCountRepository.insertIfAbsent(member.getId(), TemplateCountType.MEMBER, member.getId(), 0L);
+        templateCountRepository.insertIfAbsent(member.getId(), TemplateCountType.CATEGORY, 1L, 0L);
+
+        // when
+        templateCountRepository.insertIfAbsent(member.getId(), TemplateCountType.CATEGORY, 1L, 5L);
+        templateService.createTemplate(makeTemplateRequest("title"), memberDto);
+
+        // then
+        assertThat(templateCounter.findCategoryCounts(member.getId())).containsEntry(1L, 1L);
+    }
+
+    @Test
+    @DisplayName("템플릿 일괄 삭제 성공")
+    void deleteTemplatesSuccess() {
+        // given
+        MemberDto memberDto = MemberDtoFixture.getFirstMemberDto();
+        Member member = memberJpaRepository.fetchById(memberDto.id());
+        Category category = new Category("category1", member);
+        saveTemplate(makeTemplateRequest("title1"), category, member);
+        saveTemplate(makeTemplateRequest("title2"), category, member);
+        Template remainTemplate = saveTemplate(makeTemplateRequest("title3"), category, member);
+
+        // when
+        templateService.deleteByIds(List.of(1L, 2L), memberDto);
+
+        // then
+        assertAll(
+                () -> assertThat(templateRepository.findAll()).containsExactly(remainTemplate),
+                () -> assertThat(snippetRepository.findAll()).hasSize(2),
+                () -> assertThat(thumbnailSnippetRepository.findAll()).hasSize(1),
+                () -> assertThat(templateTagRepository.findAll()).hasSize(2)
+        );
+    }
+
+    @Test
+    @DisplayName("템플릿 생성 시 같은 스니펫 내용은 하나만 저장하고, 참조가 사라진 내용은 정리 작업에서 삭제")
+    void shareSnippetBodyByContent() {
+        // given
+        MemberDto memberDto = MemberDtoFixture.getFirstMemberDto();
+        Long firstTemplateId = templateService.createTemplate(makeTemplateRequest("title1"), memberDto);
+        Long secondTemplateId = templateService.createTemplate(makeTemplateRequest("title2"), memberDto);
+        entityManager.flush();
+        entityManager.clear();
+        long createdCount = snippetBodyRepository.count();
+
+        // when
+        templateService.deleteById(firstTemplateId, memberDto);
+        int firstCollectedCount = snippetBodyCollector.collectBatch();
+        templateService.deleteById(secondTemplateId, memberDto);
+        int secondCollectedCount = snippetBodyCollector.collectBatch();
+
+        // then
+        assertAll(
+                () -> assertThat(createdCount).isEqualTo(2L),
+                () -> assertThat(firstCollectedCount).isZero(),
+                () -> assertThat(secondCollectedCount).isEqualTo(2),
+                () -> assertThat(snippetBodyRepository.findAll()).isEmpty()
+        );
+    }
+
+    @Test
+    @DisplayName("이미 저장된 스니펫 내용을 다시 저장하면 충돌 없이 기존 내용의 수정 시각만 갱신")
+    void insertExistingSnippetBodyWithoutConflict() {
+        // given
+        String hash = SnippetBody.hashOf("content");
+        LocalDateTime createdAt = LocalDateTime.of(2024, 8, 1, 0, 0);
+        LocalDateTime touchedAt = createdAt.plusDays(1);
+
+        // when
+        snippetBodyRepository.insertOrTouch(hash, SnippetContent.of("content"), createdAt);
+        snippetBodyRepository.insertOrTouch(hash, SnippetContent.of("content"), touchedAt);
+        entityManager.clear();
+
+        // then
+        assertThat(snippetBodyRepository.findById(hash)).get()
+                .extracting(body -> body.getContent().text(), SnippetBody::getModifiedAt)
+                .containsExactly("content", touchedAt);
+    }
+
+    @Test
+    @DisplayName("참조되지 않는 스니펫 내용이라도 유예 기간 안에 다시 저장되었다면 삭제하지 않음")
+    void keepUnreferencedSnippetBodyWithinGracePeriod() {
+        // given
+        LocalDateTime now = LocalDateTime.now();
+        String staleHash = SnippetBody.hashOf("stale");
+        String touchedHash = SnippetBody.hashOf("touched");
+        snippetBodyRepository.insertOrTouch(staleHash, SnippetContent.of("stale"), now.minusHours(1));
+        snippetBodyRepository.insertOrTouch(touchedHash, SnippetContent.of("touched"), now.minusHours(1));
+        snippetBodyRepository.insertOrTouch(touchedHash, SnippetContent.of("touched"), now);
+
+        // when
+        int collectedCount = snippetBodyStore.collectUnreferenced(10, Duration.ofMinutes(10));
+        entityManager.clear();
+
+        // then
+        assertAll(
+                () -> assertThat(collectedCount).isEqualTo(1),
+                () -> assertThat(snippetBodyRepository.findAll())
+                        .extracting(SnippetBody::getHash)
+                        .containsExactly(touchedHash)
+        );
+    }
+
+    @Test
+    @DisplayName("템플릿 일괄 삭제 실패 : 다른 회원의 템플릿이 포함된 경우 아무것도 삭제하지 않음")
+    void deleteTemplatesFailWithUnauthorizedMember() {
+        // given
+        MemberDto memberDto = MemberDtoFixture.getFirstMemberDto();
+        Member member = memberJpaRepository.fetchById(memberDto.id());
+        Member otherMember = memberJpaRepository.fetchById(MemberDtoFixture.getSecondMemberDto().id());
+        saveTemplate(makeTemplateRequest("title1"), new Category("category1", member), member);
+        saveTemplate(makeTemplateRequest("title2"), new Category("category2", otherMember), otherMember);
+
+        // when & then
+        assertAll(
+                () -> assertThatThrownBy(() -> templateService.deleteByIds(List.of(1L, 2L), memberDto))
+                        .isInstanceOf(CodeZapException.class)
+                        .hasMessage("해당 템플릿에 대한 권한이 없는 유저입니다."),
+                () -> assertThat(templateRepository.findAll()).hasSize(2)
+        );
+    }
+
+    private long countUpdateQueries(int snippetCount, MemberDto memberDto) {
+        Long templateId = templateService.createTemplate(new CreateTemplateRequest(
+                "title",
+                "description",
+                IntStream.rangeClosed(1, snippetCount)
+                        .mapToObj(ordinal -> new CreateSnippetRequest("filename" + ordinal, "content", ordinal))
+                        .toList(),
+                1L,
+                List.of("tag1", "tag2")
+        ), memberDto);
+        entityManager.flush();
+        entityManager.clear();
+        List<Snippet> snippets = snippetRepository.findAllByTemplateIdOrderByOrdinal(templateId);
+        Snippet lastSnippet = snippets.get(snippets.size() - 1);
+        UpdateTemplateRequest updateTemplateRequest = new UpdateTemplateRequest(
+                "updateTitle",
+                "description",
+                List.of(),
+                snippets.subList(0, snippets.size() - 1).stream()
+                        .map(snippet -> new UpdateSnippetRequest(
+                                snippet.getId(), "updateFilename", "updateContent", snippet.getOrdinal()))
+                        .toList(),
+                List.of(lastSnippet.getId()),
+                1L,
+                List.of("tag1", "tag2")
+        );
+        entityManager.clear();
+
+        QueryCounter.clear();
+        templateService.update(templateId, updateTemplateRequest, memberDto);
+        entityManager.flush();
+        long queryCount = QueryCounter.count();
+        entityManager.clear();
+        return queryCount;
+    }
+
     private CreateTemplateRequest makeTemplateRequest(String title) {
         return new CreateTemplateRequest(
                 title,
@@ -224,12 +721,11 @@ class TemplateServiceTest {
                         savedCategory
                 )
         );
-        Snippet savedFirstSnippet = snippetRepository.save(new Snippet(savedTemplate, "filename1", "content1", 1));
-        snippetRepository.save(new Snippet(savedTemplate, "filename2", "content2", 2));
+        Snippet savedFirstSnippet = saveSnippet(new Snippet(savedTemplate, "filename1", "content1", 1));
+        saveSnippet(new Snippet(savedTemplate, "filename2", "content2", 2));
         thumbnailSnippetRepository.save(new ThumbnailSnippet(savedTemplate, savedFirstSnippet));
         createTemplateRequest.tags().stream()
-                .map(Tag::new)
-                .map(tagRepository::save)
+                .map(name -> tagRepository.findByName(name).orElseGet(() -> tagRepository.save(new Tag(name))))
                 .forEach(tag -> templateTagRepository.save(new TemplateTag(savedTemplate, tag)));
 
         return savedTemplate;
@@ -251,8 +747,8 @@ class TemplateServiceTest {
         Template savedTemplate = templateRepository.save(
                 new Template(member, createTemplateRequest.title(), createTemplateRequest.description(), category));
 
-        Snippet savedFirstSnippet = snippetRepository.save(new Snippet(savedTemplate, firstFilename, "content1", 1));
-        snippetRepository.save(new Snippet(savedTemplate, secondFilename, "content2", 2));
+        Snippet savedFirstSnippet = saveSnippet(new Snippet(savedTemplate, firstFilename, "content1", 1));
+        saveSnippet(new Snippet(savedTemplate, secondFilename, "content2", 2));
         thumbnailSnippetRepository.save(new ThumbnailSnippet(savedTemplate, savedFirstSnippet));
     }
 
@@ -272,9 +768,13 @@ class TemplateServiceTest {
         Template savedTemplate = templateRepository.save(
                 new Template(member, createTemplateRequest.title(), createTemplateRequest.description(), category));
 
-        Snippet savedFirstSnippet = snippetRepository.save(new Snippet(savedTemplate, "filename1", firstContent, 1));
-        snippetRepository.save(new Snippet(savedTemplate, "filename2", secondContent, 2));
+        Snippet savedFirstSnippet = saveSnippet(new Snippet(savedTemplate, "filename1", firstContent, 1));
+        saveSnippet(new Snippet(savedTemplate, "filename2", secondContent, 2));
         thumbnailSnippetRepository.save(new ThumbnailSnippet(savedTemplate, savedFirstSnippet));
     }
 
+    private Snippet saveSnippet(Snippet snippet) {
+        snippetBodyStore.attach(List.of(snippet));
+        return snippetRepository.save(snippet);
+    }
 }
@@ -0,0 +1,121 @@
+package codezap.template.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import jakarta.persistence.EntityManager;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.test.context.jdbc.Sql.ExecutionPhase;
+import org.springframework.transaction.annotation.Transactional;
+
+import codezap.category.domain.Category;
+import codezap.category.repository.CategoryRepository;
+import codezap.fixture.MemberDtoFixture;
+import codezap.member.domain.Member;
+import codezap.member.repository.MemberJpaRepository;
+import codezap.template.domain.Snippet;
+import codezap.template.domain.Template;
+import codezap.template.domain.ThumbnailSnippet;
+import codezap.template.repository.SnippetRepository;
+import codezap.template.repository.TemplateRepository;
+import codezap.template.repository.ThumbnailSnippetRepository;
+
+@SpringBootTest
+@Sql(value = "/clear.sql", executionPhase = ExecutionPhase.BEFORE_TEST_METHOD)
+@Sql(value = "/clear.sql", executionPhase = ExecutionPhase.AFTER_TEST_CLASS)
+@Transactional
+class ThumbnailSnippetBackfillerTest {
+
+    @Autowired
+    private ThumbnailSnippetBackfiller thumbnailSnippetBackfiller;
+    @Autowired
+    private SnippetContentMigrator snippetContentMigrator;
+    @Autowired
+    private ThumbnailSnippetRepository thumbnailSnippetRepository;
+    @Autowired
+    private SnippetRepository snippetRepository;
+    @Autowired
+    private SnippetBodyStore snippetBodyStore;
+    @Autowired
+    private TemplateRepository templateRepository;
+    @Autowired
+    private CategoryRepository categoryRepository;
+    @Autowired
+    private MemberJpaRepository memberJpaRepository;
+    @Autowired
+    private EntityManager entityManager;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    @DisplayName("비어 있는 썸네일 스니펫 정보를 템플릿과 스니펫에서 채움")
+    void backfillThumbnailSnippet() {
+        Member member = memberJpaRepository.fetchById(MemberDtoFixture.getFirstMemberDto().id());
+        Category category = categoryRepository.save(new Category("category", member));
+        Template template = templateRepository.save(new Template(member, "title", "description", category));
+        Snippet snippet = saveSnippet(new Snippet(template, "Main.java", "line1\nline2", 1));
+        Long id = thumbnailSnippetRepository.save(new ThumbnailSnippet(template, snippet)).getId();
+        entityManager.flush();
+        jdbcTemplate.update(
+                "UPDATE thumbnail_snippet SET title = NULL, filename = NULL, thumbnail_content = NULL WHERE id = ?", id);
+        LocalDateTime modifiedAt = jdbcTemplate.queryForObject(
+                "SELECT modified_at FROM thumbnail_snippet WHERE id = ?", LocalDateTime.class, id);
+        entityManager.clear();
+
+        int filledCount = thumbnailSnippetBackfiller.backfillBatch();
+        entityManager.clear();
+
+        ThumbnailSnippet thumbnailSnippet = thumbnailSnippetRepository.findById(id).orElseThrow();
+        assertAll(
+                () -> assertThat(filledCount).isEqualTo(1),
+                () -> assertThat(thumbnailSnippet.getTitle()).isEqualTo("title"),
+                () -> assertThat(thumbnailSnippet.getFilename()).isEqualTo("Main.java"),
+                () -> assertThat(thumbnailSnippet.getThumbnailContent()).isEqualTo("line1\nline2"),
+                () -> assertThat(thumbnailSnippet.getModifiedAt()).isEqualTo(modifiedAt),
+                () -> assertThat(thumbnailSnippetBackfiller.backfillBatch()).isZero()
+        );
+    }
+
+    @Test
+    @DisplayName("내용 저장소로 전환되지 않은 스니펫의 썸네일은 전환 후에 채움")
+    void backfillThumbnailSnippetAfterContentMigration() {
+        Member member = memberJpaRepository.fetchById(MemberDtoFixture.getFirstMemberDto().id());
+        Category category = categoryRepository.save(new Category("category", member));
+        Template template = templateRepository.save(new Template(member, "title", "description", category));
+        Snippet snippet = saveSnippet(new Snippet(template, "Main.java", "content", 1));
+        Long id = thumbnailSnippetRepository.save(new ThumbnailSnippet(template, snippet)).getId();
+        entityManager.flush();
+        jdbcTemplate.update(
+                "UPDATE snippet SET content = ?, body_hash = NULL WHERE id = ?", "legacy", snippet.getId());
+        jdbcTemplate.update(
+                "UPDATE thumbnail_snippet SET title = NULL, filename = NULL, thumbnail_content = NULL WHERE id = ?", id);
+        entityManager.clear();
+
+        int filledBeforeMigration = thumbnailSnippetBackfiller.backfillBatch();
+        snippetContentMigrator.migrateBatch();
+        int filledAfterMigration = thumbnailSnippetBackfiller.backfillBatch();
+        entityManager.clear();
+
+        assertAll(
+                () -> assertThat(filledBeforeMigration).isZero(),
+                () -> assertThat(filledAfterMigration).isEqualTo(1),
+                () -> assertThat(thumbnailSnippetRepository.findById(id)).get()
+                        .extracting(ThumbnailSnippet::getThumbnailContent)
+                        .isEqualTo("legacy")
+        );
+    }
+
+    private Snippet saveSnippet(Snippet snippet) {
+        snippetBodyStore.attach(List.of(snippet));
+        return snippetRepository.save(snippet);
+    }
+}